@@ -0,0 +1,128 @@
+package gremlins;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * Writes level layouts and configuration files for the benchmarks.
+ * Generated maps are square, bordered by stone walls and filled with a seeded mix of
+ * stone walls, brick walls and gremlins, so runs with the same parameters are comparable.
+ */
+public class BenchmarkLevels {
+
+    // Lives given to benchmark games so they do not end while being measured
+    public static final int LIVES = 1_000_000;
+
+    // Projectile pool size of benchmark games, enough for the largest projectile sweeps
+    public static final int MAX_PROJECTILES = 1024;
+
+    /**
+     * Writes a configuration file that plays the given layouts in order.
+     * @param layouts Paths of the level layout files
+     * @return Path of the written configuration file
+     * @throws IOException If the file cannot be written
+     */
+    public static String config(String... layouts) throws IOException {
+        File file = File.createTempFile("gremlins-config", ".json");
+        file.deleteOnExit();
+
+        try (PrintWriter out = new PrintWriter(file)) {
+            out.println("{");
+            out.println("  \"levels\": [");
+            for (int i = 0; i < layouts.length; i++) {
+                String layout = new File(layouts[i]).getAbsolutePath().replace("\\", "\\\\");
+                out.print("    { \"layout\": \"" + layout + "\" }");
+                out.println(i < layouts.length - 1 ? "," : "");
+            }
+            out.println("  ],");
+            out.println("  \"lives\": " + LIVES + ",");
+            out.println("  \"maxProjectiles\": " + MAX_PROJECTILES);
+            out.println("}");
+        }
+        return file.getPath();
+    }
+
+    /**
+     * Writes a generated square level layout.
+     * @param size     Number of tiles along each side
+     * @param gremlins Number of gremlins to place
+     * @param seed     Seed for the wall and gremlin placement
+     * @return Path of the written layout file
+     * @throws IOException If the file cannot be written
+     */
+    public static String layout(int size, int gremlins, long seed) throws IOException {
+        char[][] rows = generate(size, gremlins, seed);
+
+        File file = File.createTempFile("gremlins-level" + size + "-", ".txt");
+        file.deleteOnExit();
+
+        try (PrintWriter out = new PrintWriter(file)) {
+            for (char[] row : rows) {
+                out.println(row);
+            }
+        }
+        return file.getPath();
+    }
+
+    /**
+     * Generates a square level layout.
+     * @param size     Number of tiles along each side
+     * @param gremlins Number of gremlins to place
+     * @param seed     Seed for the wall and gremlin placement
+     * @return The layout, one char array per row
+     */
+    public static char[][] generate(int size, int gremlins, long seed) {
+        Random random = new Random(seed);
+        char[][] rows = new char[size][size];
+
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                if (x == 0 || y == 0 || x == size - 1 || y == size - 1) {
+                    rows[y][x] = 'X';
+                } else {
+                    int roll = random.nextInt(10);
+                    rows[y][x] = roll == 0 ? 'X' : roll <= 2 ? 'B' : ' ';
+                }
+            }
+        }
+
+        // Wizard in the top left corner, exit in the bottom right corner
+        rows[1][1] = 'W';
+        rows[1][2] = ' ';
+        rows[size - 2][size - 2] = 'E';
+
+        // Gremlins only go on empty tiles with an empty neighbour so they can always move
+        int placed = 0;
+        for (int attempt = 0; placed < gremlins && attempt < gremlins * 100; attempt++) {
+            int x = 1 + random.nextInt(size - 2);
+            int y = 1 + random.nextInt(size - 2);
+            if (rows[y][x] == ' ' && hasEmptyNeighbour(rows, x, y)) {
+                rows[y][x] = 'G';
+                placed++;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Checks whether a tile has an empty orthogonal neighbour.
+     */
+    private static boolean hasEmptyNeighbour(char[][] rows, int x, int y) {
+        return rows[y][x - 1] == ' ' || rows[y][x + 1] == ' '
+                || rows[y - 1][x] == ' ' || rows[y + 1][x] == ' ';
+    }
+
+    /**
+     * Creates a game world playing the given configuration file, with its first level built.
+     * @param configPath Path of the configuration file
+     * @return The game world
+     */
+    public static GameObjectManager world(String configPath) {
+        GameObjectManager game = new GameObjectManager();
+        game.loadConfigurations(configPath);
+        game.makeGameObjects();
+        return game;
+    }
+}
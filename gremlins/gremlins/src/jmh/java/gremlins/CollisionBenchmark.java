@@ -0,0 +1,50 @@
+package gremlins;
+
+import gremlins.setup.Constants;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures GameObjectManager.collisionWithWall queries at random positions of a generated map.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollisionBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param({"36", "128", "512", "1024"})
+    public int mapSize;
+
+    private GameObjectManager game;
+    private int[] xs = new int[QUERIES];
+    private int[] ys = new int[QUERIES];
+    private int next = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String layout = BenchmarkLevels.layout(mapSize, 0, 42);
+        game = BenchmarkLevels.world(BenchmarkLevels.config(layout));
+
+        // Fractional positions so both the floor and ceil tiles are probed
+        Random random = new Random(7);
+        for (int i = 0; i < QUERIES; i++) {
+            xs[i] = random.nextInt((mapSize - 1) * Constants.TILE_UNITS);
+            ys[i] = random.nextInt((mapSize - 1) * Constants.TILE_UNITS);
+        }
+    }
+
+    @Benchmark
+    public int collisionWithWall() {
+        int i = next;
+        next = (i + 1) & (QUERIES - 1);
+        return game.collisionWithWall(xs[i], ys[i]);
+    }
+}
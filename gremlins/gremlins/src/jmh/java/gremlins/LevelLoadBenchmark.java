@@ -0,0 +1,74 @@
+package gremlins;
+
+import gremlins.setup.LevelDetails;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading a level: parsing its text layout, mapping its compiled layout,
+ * and building its game objects.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LevelLoadBenchmark {
+
+    @Param({"36", "256", "1024"})
+    public int mapSize;
+
+    private String layout;
+    private String compiled;
+    private GameObjectManager game;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        layout = BenchmarkLevels.layout(mapSize, mapSize, 42);
+        LevelDetails.main(new String[]{layout});
+        compiled = layout.substring(0, layout.lastIndexOf('.')) + LevelDetails.COMPILED_EXTENSION;
+        new File(compiled).deleteOnExit();
+        game = BenchmarkLevels.world(BenchmarkLevels.config(layout));
+    }
+
+    @Benchmark
+    public LevelDetails parseLayout() {
+        return new LevelDetails(layout);
+    }
+
+    @Benchmark
+    public int readTextLayout() {
+        return countWalls(new LevelDetails(layout));
+    }
+
+    @Benchmark
+    public int readCompiledLayout() {
+        // Touches every tile, so the mapped pages are actually read
+        return countWalls(new LevelDetails(compiled));
+    }
+
+    /**
+     * Counts the wall tiles of a level.
+     */
+    private static int countWalls(LevelDetails level) {
+        int walls = 0;
+        for (int y = 0; y < level.getRows(); y++) {
+            for (int x = 0; x < level.getColumns(); x++) {
+                if (level.getTile(x, y) != ' ') {
+                    walls++;
+                }
+            }
+        }
+        return walls;
+    }
+
+    @Benchmark
+    public GameObjectManager makeGameObjects() {
+        game.makeGameObjects();
+        return game;
+    }
+}
@@ -0,0 +1,76 @@
+package gremlins;
+
+import gremlins.gameObjects.EntityStore;
+import gremlins.setup.Constants;
+import gremlins.setup.Direction;
+import gremlins.setup.ImageLoader;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one projectile sweep (hit resolution against walls and gremlins, then movement)
+ * with many projectiles in flight on a generated map.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProjectileBenchmark {
+
+    @Param({"36", "256"})
+    public int mapSize;
+
+    @Param({"2", "64", "512"})
+    public int projectiles;
+
+    @Param({"10", "1000"})
+    public int gremlins;
+
+    private GameObjectManager game;
+    private int[] startX;
+    private int[] startY;
+    private Direction[] startDirection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String layout = BenchmarkLevels.layout(mapSize, gremlins, 42);
+        game = BenchmarkLevels.world(BenchmarkLevels.config(layout));
+
+        Random random = new Random(7);
+        Direction[] directions = Direction.values();
+        startX = new int[projectiles];
+        startY = new int[projectiles];
+        startDirection = new Direction[projectiles];
+        for (int i = 0; i < projectiles; i++) {
+            startX[i] = (1 + random.nextInt(mapSize - 2)) * Constants.TILE_UNITS;
+            startY[i] = (1 + random.nextInt(mapSize - 2)) * Constants.TILE_UNITS;
+            startDirection[i] = directions[random.nextInt(directions.length)];
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void refill() {
+        // Sweeps remove projectiles and kill gremlins, so restore both before each one
+        EntityStore store = game.getProjectiles();
+        store.clear();
+        for (int i = 0; i < projectiles; i++) {
+            store.add(startX[i], startY[i], startDirection[i], ImageLoader.FIREBALL);
+        }
+        EntityStore gremlinStore = game.getGremlins();
+        for (int i = 0; i < gremlinStore.size(); i++) {
+            gremlinStore.setDead(i, false);
+        }
+    }
+
+    @Benchmark
+    public GameObjectManager sweep() {
+        game.removeProjectilesAndGremlin();
+        game.moveProjectiles();
+        return game;
+    }
+}
@@ -0,0 +1,37 @@
+package gremlins;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one full logic tick on generated maps of growing size and gremlin count.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScaledTickBenchmark {
+
+    @Param({"36", "128", "512"})
+    public int mapSize;
+
+    @Param({"10", "100", "1000"})
+    public int gremlins;
+
+    private GameObjectManager game;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws Exception {
+        String layout = BenchmarkLevels.layout(mapSize, gremlins, 42);
+        game = BenchmarkLevels.world(BenchmarkLevels.config(layout));
+    }
+
+    @Benchmark
+    public GameObjectManager tick() {
+        game.tick();
+        return game;
+    }
+}
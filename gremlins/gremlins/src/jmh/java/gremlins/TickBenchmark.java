@@ -0,0 +1,33 @@
+package gremlins;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one full logic tick of GameObjectManager on the shipped levels.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TickBenchmark {
+
+    @Param({"level1.txt", "level2.txt", "level3.txt"})
+    public String layout;
+
+    private GameObjectManager game;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws Exception {
+        game = BenchmarkLevels.world(BenchmarkLevels.config(layout));
+    }
+
+    @Benchmark
+    public GameObjectManager tick() {
+        game.tick();
+        return game;
+    }
+}
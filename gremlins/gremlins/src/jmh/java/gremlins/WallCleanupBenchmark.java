@@ -0,0 +1,68 @@
+package gremlins;
+
+import gremlins.gameObjects.Wall;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-tick removal of destroyed brick walls on generated maps, with a share
+ * of all brick walls finishing their destruction in the same tick. The cleanup is one
+ * pass over the brick walls, so its cost should follow the number of walls and stay
+ * flat as more of them are destroyed at once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WallCleanupBenchmark {
+
+    @Param({"64", "256", "1024"})
+    public int mapSize;
+
+    @Param({"0", "10", "100"})
+    public int destroyedPercent;
+
+    private GameObjectManager game;
+    private List<Wall> walls; // Every brick wall of the level, in load order
+    private List<Wall> destroyed; // The walls destroyed before each cleanup
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String layout = BenchmarkLevels.layout(mapSize, 10, 42);
+        game = BenchmarkLevels.world(BenchmarkLevels.config(layout));
+        walls = new ArrayList<>(game.getBrickWalls());
+
+        List<Wall> shuffled = new ArrayList<>(walls);
+        Collections.shuffle(shuffled, new Random(7));
+        destroyed = shuffled.subList(0, shuffled.size() * destroyedPercent / 100);
+    }
+
+    @Setup(Level.Invocation)
+    public void refill() {
+        // Cleanup removes the destroyed walls, so put every wall back before each one
+        List<Wall> brickWalls = game.getBrickWalls();
+        brickWalls.clear();
+        brickWalls.addAll(walls);
+        for (Wall wall : walls) {
+            wall.isDead = false;
+            wall.setTime(3);
+        }
+        for (Wall wall : destroyed) {
+            wall.setTime(0);
+        }
+    }
+
+    @Benchmark
+    public GameObjectManager cleanup() {
+        game.removeDestroyedWall();
+        return game;
+    }
+}
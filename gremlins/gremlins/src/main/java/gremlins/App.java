@@ -3,6 +3,11 @@ package gremlins;
 import processing.core.PApplet;
 import processing.event.KeyEvent;
 
+import java.io.File;
+import java.io.IOException;
+
+import gremlins.events.GameEvents;
+import gremlins.events.RenderEvent;
 import gremlins.setup.Constants;
 import gremlins.setup.ImageLoader;
 import gremlins.setup.Configuration;
@@ -16,6 +21,8 @@ import gremlins.gameObjects.*;
 public class App extends PApplet {
 
     private GameObjectManager gameObjectManager; // Manages game objects and their interactions
+    private GameRenderer renderer; // Draws the game objects
+    private FixedTimestep timestep; // Decides how many logic ticks each frame runs
     private Controller controller; // Handles user input and game control
 
     /**
@@ -23,7 +30,8 @@ public class App extends PApplet {
      * Called once when the program starts.
      */
     public void settings() {
-        size(Constants.WIDTH, Constants.HEIGHT); // Set the size of the window based on constants
+        // Set the size of the window based on constants, using the configured renderer
+        size(Constants.WIDTH, Constants.HEIGHT, Configuration.readRenderer(Constants.configPath));
     }
 
     /**
@@ -31,13 +39,22 @@ public class App extends PApplet {
      * Called once when the program starts.
      */
     public void setup() {
-        frameRate(Constants.FPS); // Set the frame rate of the game
-        
         // Initialize GameObjectManager and load necessary resources
-        gameObjectManager = new GameObjectManager(this);
-        gameObjectManager.loadAllImages();
+        gameObjectManager = new GameObjectManager();
+        gameObjectManager.loadAllImages(this);
         gameObjectManager.loadConfigurations();
         gameObjectManager.makeGameObjects();
+        Configuration config = gameObjectManager.getConfiguration();
+        if (config.recordInput != null) {
+            gameObjectManager.startRecording(new File(config.recordInput)); // Replay with ReplayPlayer
+        }
+        renderer = new GameRenderer(this, gameObjectManager.getImages());
+        renderer.setDirtyRectangles(config.dirtyRects); // Only takes effect on JAVA2D
+        gameObjectManager.setWallListener(renderer.getWallLayer()); // Keep the cached walls in sync
+
+        // Logic runs at a fixed tick rate; rendering is capped separately
+        timestep = new FixedTimestep(config.tickRate);
+        frameRate(config.frameRate);
 
         // Initialize the controller to handle user input
         this.controller = new Controller(this, gameObjectManager); 
@@ -48,27 +65,51 @@ public class App extends PApplet {
      * Called repeatedly to update and render the game state.
      */
     public void draw() {
-        background(194, 164, 135); // Set background color
-        
         // Check if restart flag is set
         if (this.controller.getRestart()) {
             gameObjectManager.gameOver = false; // Reset game over flag
             this.controller.setRestart(); // Clear restart flag
+            gameObjectManager.stopRecording(); // The new game starts a new recording
             setup(); // Restart the game
         }
-        
-        // Display game over message if game is over
-        if (gameObjectManager.isGameOver()) {
-            fill(255); // Set text color to white
-            textAlign(CENTER); // Center align text
-            text("GAME OVER!!! Press R to Restart", Constants.WIDTH/2, Constants.HEIGHT/2); // Display game over message
-            return; // Exit draw method early if game over
+
+        Profiler profiler = gameObjectManager.getProfiler();
+        long frameStart = profiler.start();
+
+        // Run as many fixed-length ticks as the elapsed time covers
+        int ticks = timestep.advance(System.nanoTime());
+        for (int i = 0; i < ticks; i++) {
+            gameObjectManager.tick();
+        }
+
+        RenderEvent event = GameEvents.render();
+        long renderStart = profiler.start();
+        renderer.draw(gameObjectManager, timestep.alpha()); // Draw the current state
+        profiler.lap(Profiler.RENDER, renderStart);
+        if (event != null) {
+            event.finish(gameObjectManager.getCurrentLevel(), gameObjectManager.getGremlins().size(),
+                    gameObjectManager.getProjectiles().size(), gameObjectManager.getBrickWalls().size());
+        }
+        profiler.lap(Profiler.FRAME, frameStart);
+    }
+
+    /**
+     * Finishes any input recording and writes the configured profile when the window is closed.
+     */
+    @Override
+    public void dispose() {
+        if (gameObjectManager != null) {
+            gameObjectManager.stopRecording();
+            String profile = gameObjectManager.getConfiguration().profile;
+            if (profile != null) {
+                try {
+                    gameObjectManager.getProfiler().writeCsv(new File(profile));
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
         }
-        
-        // Draw game objects, exit, and bottom bar
-        gameObjectManager.drawObjects(this); // Draw all game objects
-        gameObjectManager.drawExit(); // Draw exit area
-        gameObjectManager.drawBottomBar(); // Draw bottom bar UI
+        super.dispose();
     }
 
     /**
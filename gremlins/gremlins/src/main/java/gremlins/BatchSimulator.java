@@ -0,0 +1,116 @@
+package gremlins;
+
+import gremlins.setup.Constants;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Runs many independent headless game sessions in parallel across all cores.
+ * Every session loads its own world from the configuration and is seeded with
+ * its own seed, so sessions share no mutable state and results are reproducible.
+ */
+public class BatchSimulator {
+
+    private final String configPath; // Configuration every session is loaded from
+    private final long maxTicks; // Ticks after which a session is stopped if its game is not over
+    private final long seed; // Seed of the first session; session i uses seed + i
+
+    /**
+     * Result of one finished session.
+     */
+    public static class SessionResult {
+        public final int session; // Index of the session
+        public final long seed; // Seed the session was played with
+        public final long ticks; // Ticks run
+        public final int level; // Level reached, counting from 1
+        public final int lives; // Lives left
+        public final boolean won; // Whether every level was completed
+        public final boolean gameOver; // Whether the game ended before maxTicks
+
+        SessionResult(int session, long seed, GameObjectManager game) {
+            this.session = session;
+            this.seed = seed;
+            this.ticks = game.getTicks();
+            this.level = Math.min(game.getCurrentLevel(), game.getTotalLevel() - 1) + 1;
+            this.lives = game.getLives();
+            this.won = game.getCurrentLevel() >= game.getTotalLevel();
+            this.gameOver = game.isGameOver();
+        }
+    }
+
+    /**
+     * Constructor for BatchSimulator.
+     * @param configPath Configuration every session is loaded from
+     * @param maxTicks   Ticks after which a session is stopped if its game is not over
+     * @param seed       Seed of the first session; session i uses seed + i
+     */
+    public BatchSimulator(String configPath, long maxTicks, long seed) {
+        this.configPath = configPath;
+        this.maxTicks = maxTicks;
+        this.seed = seed;
+    }
+
+    /**
+     * Plays one session until its game is over or it reaches maxTicks.
+     * @param session Index of the session
+     * @return The result of the session
+     */
+    public SessionResult runSession(int session) {
+        GameObjectManager game = new GameObjectManager();
+        game.loadConfigurations(configPath);
+        game.setSeed(seed + session);
+        game.makeGameObjects();
+        while (!game.isGameOver() && game.getTicks() < maxTicks) {
+            game.tick();
+        }
+        return new SessionResult(session, seed + session, game);
+    }
+
+    /**
+     * Plays a number of sessions in parallel.
+     * @param sessions    Number of sessions to play
+     * @param parallelism Number of worker threads
+     * @return The results, indexed by session
+     */
+    public SessionResult[] run(int sessions, int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.submit(() -> IntStream.range(0, sessions).parallel()
+                    .mapToObj(this::runSession)
+                    .toArray(SessionResult[]::new)).join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Main method to run a batch of sessions and report per-session results and aggregate throughput.
+     * @param args Optional number of sessions (default 1000), ticks per session (default 100000)
+     *             and seed of the first session (default 0)
+     */
+    public static void main(String[] args) {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long maxTicks = args.length > 1 ? Long.parseLong(args[1]) : 100000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+
+        BatchSimulator simulator = new BatchSimulator(Constants.configPath, maxTicks, seed);
+        long start = System.nanoTime();
+        SessionResult[] results = simulator.run(sessions, parallelism);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long totalTicks = 0;
+        int won = 0, over = 0;
+        System.out.println("session,seed,ticks,level,lives,result");
+        for (SessionResult r : results) {
+            totalTicks += r.ticks;
+            won += r.won ? 1 : 0;
+            over += r.gameOver && !r.won ? 1 : 0;
+            System.out.printf("%d,%d,%d,%d,%d,%s%n", r.session, r.seed, r.ticks, r.level, r.lives,
+                    r.won ? "won" : r.gameOver ? "lost" : "timeout");
+        }
+        System.out.printf("%d sessions on %d threads: %d ticks in %.3f s (%.0f ticks/s), %d won, %d lost, %d timed out%n",
+                sessions, parallelism, totalTicks, seconds, totalTicks / seconds, won, over, sessions - won - over);
+    }
+}
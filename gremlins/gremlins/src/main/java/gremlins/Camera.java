@@ -0,0 +1,131 @@
+package gremlins;
+
+import gremlins.setup.Constants;
+
+/**
+ * The part of a level shown in the window, in pixels from the level's top left corner.
+ * The camera centres on a point, normally the wizard, but never shows anything beyond the
+ * edges of the level; a level no larger than the view is always shown from its corner.
+ */
+public class Camera {
+
+    private final int viewWidth; // Width of the view in pixels
+    private final int viewHeight; // Height of the view in pixels
+    private int worldWidth; // Width of the level in pixels
+    private int worldHeight; // Height of the level in pixels
+    private int left = 0; // Leftmost pixel column shown
+    private int top = 0; // Topmost pixel row shown
+
+    /**
+     * Constructor for Camera.
+     * @param viewWidth  Width of the view in pixels
+     * @param viewHeight Height of the view in pixels
+     */
+    public Camera(int viewWidth, int viewHeight) {
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+    }
+
+    /**
+     * Sets the size of the level the camera moves over.
+     * @param columns Width of the level in tiles
+     * @param rows    Height of the level in tiles
+     */
+    public void setWorld(int columns, int rows) {
+        this.worldWidth = columns * Constants.SPRITESIZE;
+        this.worldHeight = rows * Constants.SPRITESIZE;
+        follow(left + viewWidth / 2, top + viewHeight / 2);
+    }
+
+    /**
+     * Centres the view on a point, as far as the edges of the level allow.
+     * @param x X-coordinate of the point in pixels
+     * @param y Y-coordinate of the point in pixels
+     */
+    public void follow(int x, int y) {
+        left = clamp(x - viewWidth / 2, worldWidth - viewWidth);
+        top = clamp(y - viewHeight / 2, worldHeight - viewHeight);
+    }
+
+    /**
+     * Limits an offset to the range from 0 to a maximum, which may be negative.
+     */
+    private static int clamp(int offset, int max) {
+        return Math.max(0, Math.min(offset, max));
+    }
+
+    /**
+     * Get the leftmost pixel column shown.
+     * @return The x-offset of the view in pixels
+     */
+    public int getLeft() {
+        return left;
+    }
+
+    /**
+     * Get the topmost pixel row shown.
+     * @return The y-offset of the view in pixels
+     */
+    public int getTop() {
+        return top;
+    }
+
+    /**
+     * Get the width of the view.
+     * @return The width in pixels
+     */
+    public int getViewWidth() {
+        return viewWidth;
+    }
+
+    /**
+     * Get the height of the view.
+     * @return The height in pixels
+     */
+    public int getViewHeight() {
+        return viewHeight;
+    }
+
+    /**
+     * Check whether any part of a square sprite is inside the view.
+     * @param x    X-coordinate of the sprite's top left corner in pixels
+     * @param y    Y-coordinate of the sprite's top left corner in pixels
+     * @param size Side of the sprite in pixels
+     * @return true if the sprite is at least partly shown, false otherwise
+     */
+    public boolean sees(float x, float y, int size) {
+        return x + size > left && x < left + viewWidth && y + size > top && y < top + viewHeight;
+    }
+
+    /**
+     * Get the first tile column at least partly shown.
+     * @return The column
+     */
+    public int getFirstColumn() {
+        return left / Constants.SPRITESIZE;
+    }
+
+    /**
+     * Get the last tile column at least partly shown.
+     * @return The column
+     */
+    public int getLastColumn() {
+        return (left + viewWidth - 1) / Constants.SPRITESIZE;
+    }
+
+    /**
+     * Get the first tile row at least partly shown.
+     * @return The row
+     */
+    public int getFirstRow() {
+        return top / Constants.SPRITESIZE;
+    }
+
+    /**
+     * Get the last tile row at least partly shown.
+     * @return The row
+     */
+    public int getLastRow() {
+        return (top + viewHeight - 1) / Constants.SPRITESIZE;
+    }
+}
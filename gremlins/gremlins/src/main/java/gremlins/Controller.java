@@ -5,14 +5,15 @@ import processing.event.KeyEvent;
 
 /**
  * Controller class handles keyboard events for controlling game actions.
- * It listens for key presses and releases, directing corresponding actions
- * to the GameObjectManager.
+ * It listens for key presses and releases on Processing's event thread and queues
+ * the corresponding commands for the GameObjectManager to apply on its next tick.
  */
 public class Controller {
 
     private PApplet parent; // The main PApplet instance where events are handled
-    private GameObjectManager gameObjectManager; // Manages game objects and their actions
-    private boolean restart = false; // Flag indicating if game restart is requested
+    private InputQueue input; // Commands for the game loop
+    private Profiler profiler; // Timings shown by the overlay toggled with P
+    private volatile boolean restart = false; // Flag indicating if game restart is requested, read by the animation thread
 
     /**
      * Constructor for Controller.
@@ -22,7 +23,8 @@ public class Controller {
      */
     public Controller(PApplet parent, GameObjectManager gameObjectManager) {
         this.parent = parent;
-        this.gameObjectManager = gameObjectManager;
+        this.input = gameObjectManager.getInput();
+        this.profiler = gameObjectManager.getProfiler();
 
         // Registering this controller as the KeyEvent listener
         parent.registerMethod("keyEvent", this);
@@ -71,32 +73,36 @@ public class Controller {
         switch (key) {
             case 37:  // Left arrow key
             case 65:  // 'A' key
-                gameObjectManager.left_pressed();
+                input.offer(InputQueue.LEFT);
                 break;
 
             case 39:  // Right arrow key
             case 68:  // 'D' key
-                gameObjectManager.right_pressed();
+                input.offer(InputQueue.RIGHT);
                 break;
 
             case 38:  // Up arrow key
             case 87:  // 'W' key
-                gameObjectManager.up_pressed();
+                input.offer(InputQueue.UP);
                 break;
 
             case 40:  // Down arrow key
             case 83:  // 'S' key
-                gameObjectManager.down_pressed();
+                input.offer(InputQueue.DOWN);
                 break;
 
             case 32:  // ' ' key (spacebar)
-                gameObjectManager.shoot();
+                input.offer(InputQueue.SHOOT);
                 break;
 
             case 82:  // 'R' key
                 this.restart = true;
                 break;
 
+            case 80:  // 'P' key
+                profiler.toggleOverlay(); // Show or hide the timing overlay
+                break;
+
             default:
                 break;
         }
@@ -119,7 +125,7 @@ public class Controller {
             case 40:  // Down arrow key
             case 83:  // 'S' key
                 // Stop movement when arrow keys or WASD keys are released
-                gameObjectManager.stop();
+                input.offer(InputQueue.STOP);
                 break;
 
             default:
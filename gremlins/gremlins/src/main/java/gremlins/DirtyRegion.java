@@ -0,0 +1,129 @@
+package gremlins;
+
+import java.awt.Shape;
+import java.awt.geom.Path2D;
+import java.util.Arrays;
+
+/**
+ * The cells of the window that changed since the last frame, for dirty-rectangle rendering.
+ * The window is divided into square cells; anything drawn differently from the last frame
+ * marks the cells it covers, now and where it was before, and only the marked cells are
+ * repainted. The marked cells are merged into one rectangle per run of cells in a row.
+ */
+public class DirtyRegion {
+
+    private final int cellSize; // Side of a cell in pixels
+    private final int columns; // Cells across the window
+    private final int rows; // Cells down the window
+    private final boolean[] cells; // Whether each cell must be repainted, row by row
+    private int marked = 0; // Number of marked cells
+
+    /**
+     * Constructor for DirtyRegion. Starts with every cell marked, so the first frame is drawn in full.
+     * @param width    Width of the window in pixels
+     * @param height   Height of the window in pixels
+     * @param cellSize Side of a cell in pixels
+     */
+    public DirtyRegion(int width, int height, int cellSize) {
+        this.cellSize = cellSize;
+        this.columns = (width + cellSize - 1) / cellSize;
+        this.rows = (height + cellSize - 1) / cellSize;
+        this.cells = new boolean[columns * rows];
+        markAll();
+    }
+
+    /**
+     * Marks every cell a rectangle touches; the parts outside the window are ignored.
+     * @param x      X-coordinate of the rectangle's top left corner in pixels
+     * @param y      Y-coordinate of the rectangle's top left corner in pixels
+     * @param width  Width of the rectangle in pixels
+     * @param height Height of the rectangle in pixels
+     */
+    public void mark(float x, float y, float width, float height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        int left = Math.max(0, (int) Math.floor(x / cellSize));
+        int top = Math.max(0, (int) Math.floor(y / cellSize));
+        int right = Math.min(columns - 1, (int) Math.ceil((x + width) / cellSize) - 1);
+        int bottom = Math.min(rows - 1, (int) Math.ceil((y + height) / cellSize) - 1);
+        for (int row = top; row <= bottom; row++) {
+            for (int column = left; column <= right; column++) {
+                int cell = row * columns + column;
+                if (!cells[cell]) {
+                    cells[cell] = true;
+                    marked++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks every cell, so the next frame is drawn in full.
+     */
+    public void markAll() {
+        Arrays.fill(cells, true);
+        marked = cells.length;
+    }
+
+    /**
+     * Check whether every cell is marked.
+     * @return true if the whole window must be repainted
+     */
+    public boolean isFull() {
+        return marked == cells.length;
+    }
+
+    /**
+     * Check whether no cell is marked.
+     * @return true if nothing must be repainted
+     */
+    public boolean isEmpty() {
+        return marked == 0;
+    }
+
+    /**
+     * Get the number of marked cells.
+     * @return The count
+     */
+    public int getMarkedCount() {
+        return marked;
+    }
+
+    /**
+     * Builds the outline of the marked cells, one rectangle per run of marked cells in a row.
+     * @return The shape to clip the repaint to, in window pixels
+     */
+    public Shape toShape() {
+        Path2D.Float shape = new Path2D.Float();
+        for (int row = 0; row < rows; row++) {
+            int column = 0;
+            while (column < columns) {
+                if (!cells[row * columns + column]) {
+                    column++;
+                    continue;
+                }
+                int start = column;
+                while (column < columns && cells[row * columns + column]) {
+                    column++;
+                }
+                float x0 = start * cellSize, x1 = column * cellSize;
+                float y0 = row * cellSize, y1 = (row + 1) * cellSize;
+                shape.moveTo(x0, y0);
+                shape.lineTo(x1, y0);
+                shape.lineTo(x1, y1);
+                shape.lineTo(x0, y1);
+                shape.closePath();
+            }
+        }
+        return shape;
+    }
+
+    /**
+     * Unmarks every cell once the frame has been repainted.
+     */
+    public void clear() {
+        Arrays.fill(cells, false);
+        marked = 0;
+    }
+}
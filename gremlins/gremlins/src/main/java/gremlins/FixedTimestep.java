@@ -0,0 +1,61 @@
+package gremlins;
+
+import gremlins.setup.Constants;
+
+/**
+ * Accumulator-based fixed timestep scheduler.
+ * Converts the real time elapsed between rendered frames into a whole number of
+ * fixed-length logic ticks, so game speed does not depend on the frame rate.
+ * The time left over is exposed as an interpolation fraction for rendering.
+ */
+public class FixedTimestep {
+
+    private final long tickNanos; // Length of one logic tick in nanoseconds
+    private long accumulator = 0; // Real time not yet simulated
+    private long lastTime = -1; // Time of the previous frame, -1 before the first frame
+
+    /**
+     * Constructor for FixedTimestep.
+     * @param tickRate Logic ticks per second
+     */
+    public FixedTimestep(int tickRate) {
+        this.tickNanos = 1_000_000_000L / tickRate;
+    }
+
+    /**
+     * Accounts for the time elapsed since the previous frame.
+     * Frames longer than Constants.MAX_FRAME_NANOS are clamped so a stall does not
+     * trigger a burst of catch-up ticks.
+     * @param now The current time from System.nanoTime()
+     * @return The number of ticks to run this frame
+     */
+    public int advance(long now) {
+        if (lastTime < 0) {
+            lastTime = now;
+            return 0;
+        }
+        long elapsed = Math.min(now - lastTime, Constants.MAX_FRAME_NANOS);
+        lastTime = now;
+
+        accumulator += elapsed;
+        int ticks = (int) (accumulator / tickNanos);
+        accumulator -= ticks * tickNanos;
+        return ticks;
+    }
+
+    /**
+     * Get the fraction of a tick elapsed since the last tick, for interpolated rendering.
+     * @return A value from 0 (inclusive) to 1 (exclusive)
+     */
+    public float alpha() {
+        return (float) accumulator / tickNanos;
+    }
+
+    /**
+     * Get the length of one logic tick.
+     * @return The tick length in nanoseconds
+     */
+    public long getTickNanos() {
+        return tickNanos;
+    }
+}
@@ -3,55 +3,75 @@ package gremlins;
 import processing.core.PApplet;
 import processing.data.JSONObject;
 
+import gremlins.events.*;
 import gremlins.gameObjects.*;
-import gremlins.projectiles.*;
 import gremlins.setup.*;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Manages game objects, including walls, wizard, gremlins, projectiles, and game levels.
+ * Holds the world state and advances it one step per tick without needing a display,
+ * so the same simulation runs inside the App window or headless.
  */
 public class GameObjectManager {
 
-    private PApplet parent; // Reference to the main PApplet
-    private ImageLoader imgDir; // Handles loading images
+    private static final Direction[] DIRECTIONS = Direction.values(); // Copied once, as values() copies on every call
+
+    private ImageLoader imgDir = new ImageLoader(); // Handles loading images, empty until loaded
     private Configuration config; // Game configuration
 
     // Lists to store various game objects
     private List<Wall> stone_wall = new ArrayList<>();
     private List<Wall> brick_wall = new ArrayList<>();
+    private TileGrid wallGrid; // Tile index of the walls for constant-time collision checks
+    private FlowField flowField; // Distances to the wizard that gremlins follow
+    private WallListener wallListener; // Notified when walls change, may be null
     private Wizard wizard; // The player's wizard character
-    private List<Gremlin> gremlin_list = new ArrayList<>(); // List of enemy gremlins
+    private int spawnX, spawnY; // Fixed-point position the wizard started the level on
+    private long graceUntil = Long.MIN_VALUE; // Game time until which gremlins cannot hurt the wizard
+    private EntityStore gremlins = new EntityStore(16, EntityStore.toUnits(Constants.GREMLIN_SPEED)); // Enemy gremlins
+    private final SpatialHash gremlinHash = new SpatialHash(); // Gremlins by tile, rebuilt whenever they move
     private Wall door; // Represents the exit door
-    private Wizard numOfLives; // Tracks the number of lives (possibly a typo?)
+    private LevelWorld world; // The current level, which loads the walls around the camera
 
-    private List<Drawable> projectile_list = new ArrayList<>(); // List of projectiles
+    private ProjectilePool projectiles = new ProjectilePool(Constants.DEFAULT_MAX_PROJECTILES,
+            EntityStore.toUnits(Constants.PROJECTILE_SPEED)); // Projectiles in flight
+    private long shotInterval = 0; // Least game time between two shots in milliseconds
+    private long lastShotTime = Long.MIN_VALUE / 2; // Game time of the last shot
 
     private int totalLevel = -1; // Total number of levels in the game
     private int currentLevel = -1; // Current level being played
-    private Random random = new Random(); // Random number generator
-    long startTime = System.currentTimeMillis(); // Start time of the game
+    private Random random = new Random(); // Random number generator, the game's only source of randomness
+    private long seed; // Seed the random number generator was last given
+    private long ticks = 0; // Number of ticks run so far
+    private int score = 0; // Gremlins killed with fireballs this game
+    private GameClock clock = this::gameMillis; // Time source of timed behaviour, game time by default
+    private String configPath = Constants.configPath; // Configuration file the game was loaded from
+    private InputRecorder recorder; // Records applied input, null when not recording
+    private double stepScale = 1; // Reference ticks (Constants.FPS) covered by one configured tick
+    private int respawnOdds = 1000; // One in this many ticks revives the dead gremlins
+    private int lodMargin = Constants.DEFAULT_LOD_MARGIN; // Tiles beyond the view where gremlins move every tick
+    private int lodInterval = Constants.DEFAULT_LOD_INTERVAL; // Ticks between the moves of gremlins further out
+
+    private CompletableFuture<LevelWorld> nextLevel; // The following level, built in the background
+    private final InputQueue input = new InputQueue(64); // Key commands from the Controller, drained each tick
+    private final Profiler profiler = new Profiler(); // Times the phases of each tick, disabled unless configured
 
     public boolean gameOver = false; // Indicates if the game is over
 
-    /**
-     * Constructor for GameObjectManager.
-     * @param parent The main PApplet instance
-     */
-    public GameObjectManager(PApplet parent) {
-        this.parent = parent;
-    }
-    
-
     /**
      * Loads all necessary images using the ImageLoader class.
+     * Headless simulations skip this and run without images.
+     * @param parent The PApplet used to decode the images
      */
-    public void loadAllImages() {
+    public void loadAllImages(PApplet parent) {
         try {
             imgDir = new ImageLoader(parent);
         } catch (Exception e) {
@@ -63,222 +83,412 @@ public class GameObjectManager {
      * Loads game configurations from a JSON file and initializes necessary variables.
      */
     public void loadConfigurations() {
+        loadConfigurations(Constants.configPath);
+    }
+
+    /**
+     * Loads game configurations from the given JSON file and initializes necessary variables.
+     * @param configPath Path to the configuration JSON file
+     */
+    public void loadConfigurations(String configPath) {
         try {
             // Load configuration JSON file
-            JSONObject conf = parent.loadJSONObject(new File(Constants.configPath));
+            JSONObject conf = PApplet.loadJSONObject(new File(configPath));
             config = new Configuration(conf);
+            this.configPath = configPath;
+            setSeed(config.seed);
+            profiler.setEnabled(config.profile != null);
 
             // Initialize total levels and set current level to 0
             totalLevel = config.Level_Configuration.size();
             currentLevel = 0;
+
+            // Scale per-tick movement and chances so gameplay speed matches the reference rate
+            stepScale = (double) Constants.FPS / config.tickRate;
+            respawnOdds = Math.max(1, (int) Math.round(1000 / stepScale));
+            gremlins.setSpeed(EntityStore.toUnits(Constants.GREMLIN_SPEED * stepScale));
+            projectiles = new ProjectilePool(config.maxProjectiles,
+                    EntityStore.toUnits(Constants.PROJECTILE_SPEED * stepScale));
+            shotInterval = config.fireRate > 0 ? Math.round(1000 / config.fireRate) : 0;
+            lodMargin = config.lodMargin;
+            lodInterval = config.lodInterval;
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
     /**
-     * Constructs game objects based on the current level's layout configuration.
+     * Constructs game objects based on the current level's layout configuration,
+     * and starts building the following level in the background.
      */
     public void makeGameObjects() {
-        HashMap<Integer, char[]> layout = config.Level_Configuration.get(currentLevel).getLayout();
-        for (int i = 0; i < layout.size(); i++) {
-            for (int j = 0; j < layout.get(i).length; j++) {
-                switch (layout.get(i)[j]) {
-                    case 'X':
-                        stone_wall.add(new Wall(imgDir.stonewall, j, i, imgDir));
-                        break;
-                    case 'B':
-                        brick_wall.add(new Wall(imgDir.brickwall, j, i, imgDir));
-                        break;
-                    case 'G':
-                        gremlin_list.add(new Gremlin(imgDir.gremlin, j, i, imgDir));
-                        break;
-                    case 'E':
-                        door = new Wall(j, i); // Create exit door
-                        break;
-                    case 'W':
-                        wizard = new Wizard(imgDir.wizard0, j, i, imgDir); // Initialize player wizard
-                        break;
-                }
-            }
+        enterLevel(buildLevel(config.Level_Configuration.get(currentLevel), currentLevel, imgDir,
+                gremlins.getSpeed(), false));
+        prefetchNextLevel();
+    }
+
+    /**
+     * Builds the objects of a level, recording a level load event.
+     * Reads only its arguments, so it may run on a background thread.
+     * @param level        The level layout
+     * @param index        Index of the level, counting from 0
+     * @param images       The loaded game images
+     * @param gremlinSpeed Units the gremlins move per tick
+     * @param prefetched   Whether the level is being built in the background
+     * @return The built level
+     */
+    private static LevelWorld buildLevel(LevelDetails level, int index, ImageLoader images,
+                                         int gremlinSpeed, boolean prefetched) {
+        LevelLoadEvent event = GameEvents.levelLoad();
+        LevelWorld world = new LevelWorld(level, images, gremlinSpeed);
+        if (event != null) {
+            event.finish(index, prefetched, level.getColumns(), level.getRows(),
+                    world.stone_wall.size(), world.brick_wall.size(), world.gremlins.size());
         }
-        // If door exists, initialize player lives near the door
-        if (door != null) {
-            numOfLives = new Wizard(imgDir.wizard1, door.getX(), door.getY(), imgDir);
+        return world;
+    }
+
+    /**
+     * Starts building the level after the current one on a background thread.
+     */
+    private void prefetchNextLevel() {
+        if (currentLevel + 1 >= totalLevel) {
+            nextLevel = null;
+            return;
         }
+        final LevelDetails level = config.Level_Configuration.get(currentLevel + 1);
+        final int index = currentLevel + 1;
+        final ImageLoader images = imgDir;
+        final int speed = gremlins.getSpeed();
+        nextLevel = CompletableFuture.supplyAsync(() -> buildLevel(level, index, images, speed, true));
     }
 
     /**
-     * Draws all game objects on the screen.
-     * @param sketch The PApplet sketch to draw on
+     * Moves on to the next level, using the prefetched world once it is ready.
+     * A level that failed to build in the background rethrows its error here, on the game thread.
      */
-    public void drawObjects(PApplet sketch) {
-        removeDestroyedWall();
-        removeProjectilesAndGremlin(sketch);
-        moveGremlin();
+    private void advanceLevel() {
+        LevelWorld world;
+        try {
+            world = nextLevel != null
+                    ? nextLevel.join()
+                    : buildLevel(config.Level_Configuration.get(currentLevel), currentLevel, imgDir,
+                            gremlins.getSpeed(), false);
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+        enterLevel(world);
+        prefetchNextLevel();
+    }
 
-        // Draw wizard if exists
+    /**
+     * Replaces the objects of the current level with those of a built level.
+     * @param world The built level
+     */
+    private void enterLevel(LevelWorld world) {
+        stone_wall = world.stone_wall;
+        brick_wall = world.brick_wall;
+        wallGrid = world.wallGrid;
+        flowField = world.flowField;
+        gremlins = world.gremlins;
+        wizard = world.wizard;
         if (wizard != null) {
-            wizard.draw(sketch);
+            spawnX = wizard.getFixedX();
+            spawnY = wizard.getFixedY();
+        }
+        graceUntil = Long.MIN_VALUE;
+        this.world = world;
+        if (world.door != null) {
+            door = world.door; // Levels without an exit keep the previous level's exit
         }
+        projectiles.clear();
+        gremlinHash.build(gremlins);
+        if (wallListener != null) {
+            wallListener.wallsReset();
+        }
+    }
 
-        // Draw all lists of game objects
-        drawList(stone_wall);
-        drawList(brick_wall);
-        drawList(gremlin_list);
-        drawList(projectile_list);
+    /**
+     * Advances the game world by one step: cleans up destroyed walls, resolves projectile hits,
+     * moves gremlins and projectiles, and checks respawn and game over conditions.
+     */
+    public void tick() {
+        if (gameOver) {
+            return;
+        }
+        TickEvent event = GameEvents.tick();
+        long tickStart = profiler.start();
+        long phase = tickStart;
+
+        drainInput(); // Apply the keys pressed since the last tick
+        world.followWizard(); // Scroll the camera and swap the walls of chunks entering or leaving the active area
+        phase = profiler.lap(Profiler.INPUT, phase);
+        ticks++;
+        long now = clock.millis();
+        removeDestroyedWall();
+        phase = profiler.lap(Profiler.WALLS, phase);
+        removeProjectilesAndGremlin();
+        phase = profiler.lap(Profiler.COLLISIONS, phase);
+        moveGremlin();
+        phase = profiler.lap(Profiler.GREMLINS, phase);
+
+        // Advance brick wall destruction animations, indexed so no iterator is allocated
+        for (int i = 0; i < brick_wall.size(); i++) {
+            brick_wall.get(i).animateDestruction(now);
+        }
+        moveProjectiles();
+        phase = profiler.lap(Profiler.PROJECTILES, phase);
 
         respawn(); // Check and handle respawning of gremlins
         gameOver(); // Check and handle game over condition
+        if (gameOver) {
+            stopRecording();
+        }
+        profiler.lap(Profiler.RULES, phase);
+        profiler.lap(Profiler.TICK, tickStart);
+        if (event != null) {
+            event.finish(currentLevel, ticks, gremlins.size(), projectiles.size(), brick_wall.size());
+        }
     }
 
     /**
-     * Respawn gremlins randomly after a certain interval.
+     * Get the game time: the ticks run so far times the length of a tick.
+     * @return The game time in milliseconds
      */
-    public void respawn() {
-        int randomNumber = random.nextInt(1000);
-        // Arbitrary respawn condition (e.g., every 551 random number)
-        if (randomNumber == 551) {
-            for (Gremlin obj: gremlin_list) {
-                obj.isDead = false; // Reset gremlin status to alive
-            }
-        }
+    private long gameMillis() {
+        int tickRate = config != null ? config.tickRate : Constants.DEFAULT_TICK_RATE;
+        return ticks * 1000 / tickRate;
     }
 
     /**
-     * Draws a list of drawable objects, skipping those marked as dead.
-     * @param objects The list of drawable objects to draw
+     * Reseeds the random number generator, so the same seed and input replay the same game.
+     * @param seed The new seed
      */
-    private void drawList(List<? extends Drawable> objects) {
-        for (Drawable obj : objects) {
-            if (!obj.getIsDead()) {
-                obj.draw(parent);
-            }
+    public void setSeed(long seed) {
+        this.seed = seed;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Get the seed the random number generator was last given.
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Replaces the time source of timed behaviour such as wall destruction animations.
+     * @param clock The new clock
+     */
+    public void setClock(GameClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Get the number of ticks run so far.
+     * @return The number of ticks
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Starts recording the seed and every applied input command, for ReplayPlayer.
+     * Must be called before the first tick so the recording covers the whole game.
+     * @param file The file to record to
+     */
+    public void startRecording(File file) {
+        try {
+            recorder = new InputRecorder(file, seed, configPath);
+        } catch (IOException e) {
+            e.printStackTrace();
         }
     }
 
     /**
-     * Draws the bottom bar displaying player lives and current level information.
+     * Ends the recording, if any, at the current tick.
      */
-    public void drawBottomBar() {
-        parent.textSize(20);
-        parent.fill(255);
-        parent.text("Lives:", 10, Constants.HEIGHT - 25);
+    public void stopRecording() {
+        if (recorder != null) {
+            recorder.finish(ticks);
+            recorder = null;
+        }
+    }
 
-        int width = Constants.widthOfNumOfLives;
-        for (int i = 0; i < config.lives; i++) {
-            numOfLives.draw(parent, width, Constants.HEIGHT - 40);
-            width += 20;
+    /**
+     * Applies every input command queued by the Controller, in the order they were pressed.
+     */
+    public void drainInput() {
+        int command;
+        while ((command = input.poll()) != InputQueue.EMPTY) {
+            if (recorder != null) {
+                recorder.record(ticks, command);
+            }
+            applyInput(command);
         }
+    }
 
-        String text_level = "Level " + (currentLevel + 1) + "/" + totalLevel;
-        parent.textSize(20);
-        parent.fill(255);
-        parent.text(text_level, Constants.widthOfNumOfLives + Constants.WIDTH - 200, Constants.HEIGHT - 25);
+    /**
+     * Applies one input command to the wizard.
+     * @param command One of the InputQueue command constants
+     */
+    public void applyInput(int command) {
+        switch (command) {
+            case InputQueue.LEFT:
+                left_pressed();
+                break;
+            case InputQueue.RIGHT:
+                right_pressed();
+                break;
+            case InputQueue.UP:
+                up_pressed();
+                break;
+            case InputQueue.DOWN:
+                down_pressed();
+                break;
+            case InputQueue.STOP:
+                stop();
+                break;
+            case InputQueue.SHOOT:
+                shoot();
+                break;
+        }
     }
 
     /**
-     * Draws the exit door on the screen.
+     * Respawn gremlins randomly after a certain interval.
      */
-    public void drawExit() {
-        parent.fill(255);
-        parent.text("EXIT", (float)(door.getX() * 20), (float)(door.getY() * 20));
-        parent.rect((float)(door.getX() * 20), (float)(door.getY() * 20), 20, 20);
+    public void respawn() {
+        int randomNumber = random.nextInt(respawnOdds);
+        // Arbitrary respawn condition, on average once every 1000 reference ticks
+        if (randomNumber == 0) {
+            for (int i = 0; i < gremlins.size(); i++) {
+                gremlins.setDead(i, false); // Reset gremlin status to alive
+            }
+        }
     }
-    
+
     /**
-     * Checks for collision of the wizard with walls at specified coordinates.
-     * @param nextX The next x-coordinate to check
-     * @param nextY The next y-coordinate to check
-     * @param object The game object (wizard) to check collisions for
+     * Checks for collision with walls at specified coordinates.
+     * @param nextX The next fixed-point x-coordinate to check
+     * @param nextY The next fixed-point y-coordinate to check
      * @return 0 if no collision, 1 if collision with stone wall, 2 if collision with brick wall
      */
-    public int collisionWithWall(double nextX, double nextY, GameObject object) {
-        int return_val = 0; // 0 = no collision, 1 = collision with stone_wall, 2 = collision with brick_wall
-        double wizStartX = (nextX*object.getWidth())/object.getWidth();
-        double wizStartY = (nextY*object.getHeight())/object.getHeight();
-        
-        for (GameObject obj : this.stone_wall) {     
-            if ((obj.getX() == Math.floor(wizStartX) && (obj.getY() == Math.floor(wizStartY)))) {
-                return_val = 1;
-            }
-            else if ((obj.getX() == Math.ceil(wizStartX) && (obj.getY() == Math.ceil(wizStartY)))) {
-                return_val = 1;
-            }
+    public int collisionWithWall(int nextX, int nextY) {
+        // 0 = no collision, 1 = collision with stone_wall, 2 = collision with brick_wall
+        int floorTile = wallGrid.get(TileGrid.floorTile(nextX), TileGrid.floorTile(nextY));
+        int ceilTile = wallGrid.get(TileGrid.ceilTile(nextX), TileGrid.ceilTile(nextY));
+
+        // Brick walls take precedence over stone walls when both tiles are occupied
+        if (floorTile == TileGrid.BRICK || ceilTile == TileGrid.BRICK) {
+            return 2;
         }
-        for (GameObject obj : this.brick_wall) {     
-            if ((obj.getX() == Math.floor(wizStartX) && (obj.getY() == Math.floor(wizStartY)))) {
-                return_val = 2;
-            }
-            else if ((obj.getX() == Math.ceil(wizStartX) && (obj.getY() == Math.ceil(wizStartY)))) {
-                return_val = 2;
-            }
+        if (floorTile == TileGrid.STONE || ceilTile == TileGrid.STONE) {
+            return 1;
         }
-        return return_val; 
+        return 0;
     }
 
     /**
      * Removes destroyed walls from the brick wall list.
+     * Destroyed walls are marked dead and compacted out in a single pass, without allocating.
      */
     public void removeDestroyedWall() {
-        List<Wall> objectsToRemove = new ArrayList<>();
-
-        for (Wall obj : brick_wall) {
+        boolean removed = false;
+        for (int i = 0; i < brick_wall.size(); i++) {
+            Wall obj = brick_wall.get(i);
             if (obj.isDestroyed()) {
-                objectsToRemove.add(obj);
+                obj.isDead = true;
+                removed = true;
+                wallGrid.clear((int) obj.getX(), (int) obj.getY());
+                flowField.opened((int) obj.getX(), (int) obj.getY()); // The opening may shorten paths to the wizard
             }
         }
-        brick_wall.removeAll(objectsToRemove);
+        if (removed) {
+            Compaction.removeDead(brick_wall);
+        }
     }
 
     /**
      * Removes projectiles that have collided with walls or gremlins from the game.
-     * @param sketch The PApplet sketch to draw on
+     * A projectile that hits anything is marked dead once, and the dead projectiles are
+     * compacted out after every projectile has been checked.
      */
-    public void removeProjectilesAndGremlin(PApplet sketch) {
-        List<Drawable> objectsToRemove = new ArrayList<>();
-
-        for (Drawable obj : projectile_list) {
-            double[] nextCoords = obj.nextCoordinates(); 
-            
-            int collision = collisionWithWall(nextCoords[0], nextCoords[1], (GameObject) this.wizard);
+    public void removeProjectilesAndGremlin() {
+        CollisionEvent event = GameEvents.collision();
+        int checked = projectiles.size();
+        for (int p = 0; p < checked; p++) {
+            int nextX = projectiles.nextX(p);
+            int nextY = projectiles.nextY(p);
+            boolean hit = false;
+
+            int collision = collisionWithWall(nextX, nextY);
             if (collision != 0) {
                 if (collision == 2) {
-                    destroyWall(nextCoords, sketch);
+                    destroyWall(nextX, nextY);
                 }
-                objectsToRemove.add(obj); 
+                hit = true;
             }
 
-            for (Gremlin gremObj : gremlin_list) {
-                if ((Math.floor(nextCoords[0]) == Math.floor(gremObj.getX()) && (Math.floor(nextCoords[1]) == Math.floor(gremObj.getY())))) {
-                    if (gremObj.getIsDead()) {continue;}
-                    objectsToRemove.add(obj); 
-                    gremObj.isDead = true;
-                }
-                else if ((Math.ceil(nextCoords[1]) == Math.ceil(gremObj.getX()) && (Math.ceil(nextCoords[1]) == Math.ceil(gremObj.getY())))) {
-                    if (gremObj.getIsDead()) {continue;}
-                    objectsToRemove.add(obj); 
-                    gremObj.isDead = true;
+            if (killGremlinsAt(nextX, nextY)) {
+                hit = true;
+            }
+
+            if (hit) {
+                projectiles.setDead(p, true);
+            }
+        }
+        int hits = projectiles.removeDead();
+        if (event != null) {
+            event.finish(currentLevel, checked, gremlins.size(), hits);
+        }
+    }
+
+    /**
+     * Kills every live gremlin sharing a projectile's floor tile or ceiling tile.
+     * A gremlin matching either has its floor tile in the 2x2 block ending at the
+     * projectile's ceiling tile, so only those four tiles of the gremlin hash are visited.
+     * @param x The fixed-point x-coordinate of the projectile
+     * @param y The fixed-point y-coordinate of the projectile
+     * @return true if a gremlin was hit, false otherwise
+     */
+    private boolean killGremlinsAt(int x, int y) {
+        int floorX = TileGrid.floorTile(x), floorY = TileGrid.floorTile(y);
+        int ceilX = TileGrid.ceilTile(x), ceilY = TileGrid.ceilTile(y);
+        boolean hit = false;
+        for (int tileX = ceilX - 1; tileX <= ceilX; tileX++) {
+            for (int tileY = ceilY - 1; tileY <= ceilY; tileY++) {
+                for (int g = gremlinHash.first(tileX, tileY); g >= 0; g = gremlinHash.next(g)) {
+                    if (gremlins.isDead(g)) {continue;}
+                    int gx = gremlins.getX(g), gy = gremlins.getY(g);
+                    if ((floorX == TileGrid.floorTile(gx) && floorY == TileGrid.floorTile(gy))
+                            || (ceilX == TileGrid.ceilTile(gx) && ceilY == TileGrid.ceilTile(gy))) {
+                        hit = true;
+                        gremlins.setDead(g, true);
+                        score++;
+                    }
                 }
             }
         }
-        projectile_list.removeAll(objectsToRemove);
+        return hit;
     }
 
     /**
      * Destroys a brick wall at specified coordinates.
-     * @param wallCoords The coordinates of the wall to destroy
-     * @param sketch The PApplet sketch to draw on
+     * @param wallX The fixed-point x-coordinate of the wall to destroy
+     * @param wallY The fixed-point y-coordinate of the wall to destroy
      */
-    public void destroyWall(double[] wallCoords, PApplet sketch) {        
-        for (Wall obj : brick_wall) {
-            if ((obj.getX() == Math.floor(wallCoords[0]) && (obj.getY() == Math.floor(wallCoords[1])))) {
-                obj.destroy();
-                break;
-            }
-            else if ((obj.getX() == Math.ceil(wallCoords[0]) && (obj.getY() == Math.ceil(wallCoords[1])))) {
-                obj.destroy();
-                break;
+    public void destroyWall(int wallX, int wallY) {
+        Wall obj = wallGrid.getBrick(TileGrid.floorTile(wallX), TileGrid.floorTile(wallY));
+        if (obj == null) {
+            obj = wallGrid.getBrick(TileGrid.ceilTile(wallX), TileGrid.ceilTile(wallY));
+        }
+        if (obj != null) {
+            boolean wasIntact = !obj.isDestroying();
+            obj.destroy();
+            if (wasIntact && wallListener != null) {
+                wallListener.wallDestroyed(obj);
             }
         }
     }
@@ -288,28 +498,24 @@ public class GameObjectManager {
      * @param direction The direction in which to move the wizard
      */
     public void moveWizard(Direction direction) {
-        double nextX = 0, nextY = 0;
+        int nextX = this.wizard.getFixedX(), nextY = this.wizard.getFixedY();
 
         switch (direction) {
             case LEFT:
-                nextX = this.wizard.next_left_x();
-                nextY = this.wizard.next_left_y();
+                nextX -= this.wizard.getSpeed();
                 break;
             case RIGHT:
-                nextX = this.wizard.next_right_x();
-                nextY = this.wizard.next_right_y();
+                nextX += this.wizard.getSpeed();
                 break;
             case UP:
-                nextX = this.wizard.next_up_x();
-                nextY = this.wizard.next_up_y();
+                nextY -= this.wizard.getSpeed();
                 break;
             case DOWN:
-                nextX = this.wizard.next_down_x();
-                nextY = this.wizard.next_down_y();
+                nextY += this.wizard.getSpeed();
                 break;
         }
         // Move wizard if no collision detected
-        if (collisionWithWall(nextX, nextY, (GameObject) this.wizard) == 0) {
+        if (collisionWithWall(nextX, nextY) == 0) {
            switch (direction) {
                 case LEFT:
                     this.wizard.left();
@@ -328,28 +534,87 @@ public class GameObjectManager {
     }
 
     /**
-     * Moves all gremlins in the game.
+     * Moves all gremlins in the game, steering each one along the flow field towards the wizard.
      */
     public void moveGremlin() {
-        // Generate a random delay for each gremlin
-        int randomDelay = random.nextInt(401) + 100;
-        long currentTime = System.currentTimeMillis();
-
-        // Iterate through all gremlins
-        for (Gremlin obj : gremlin_list) {
-            // Check if it's time for the gremlin to change direction
-            if (currentTime - startTime >= randomDelay) {
-                obj.setDirection();
+        flowField.update(TileGrid.floorTile(wizard.getFixedX()), TileGrid.floorTile(wizard.getFixedY()));
+
+        // Gremlins within lodMargin tiles of the view move every tick, the rest of the
+        // active chunks every lodInterval ticks, staggered so each tick moves a share of them
+        Camera camera = world.camera;
+        int nearLeft = camera.getFirstColumn() - lodMargin, nearRight = camera.getLastColumn() + lodMargin;
+        int nearTop = camera.getFirstRow() - lodMargin, nearBottom = camera.getLastRow() + lodMargin;
+
+        for (int i = 0; i < gremlins.size(); i++) {
+            gremlins.stay(i); // Drawn from here on, whether or not it moves this tick
+            int tileX = TileGrid.floorTile(gremlins.getX(i)), tileY = TileGrid.floorTile(gremlins.getY(i));
+            if (!world.isActive(tileX, tileY)) {
+                continue; // Gremlins outside the active chunks wait for the wizard to come near
+            }
+            int distance = gremlins.getSpeed();
+            if (tileX < nearLeft || tileX > nearRight || tileY < nearTop || tileY > nearBottom) {
+                if ((ticks + i) % lodInterval != 0) {
+                    continue;
+                }
+                distance *= lodInterval; // Catch up on the skipped ticks
             }
-            // Ensure gremlins do not move into walls
-            while (collisionWithWall(obj.nextCoordinates()[0], obj.nextCoordinates()[1], obj) != 0) {
-                obj.setDirection();
+            // Gremlins only turn once they stand exactly on a tile; between tiles they keep going.
+            // A catch-up longer than the way to the next tile turns there and carries on.
+            while (distance > 0) {
+                int x = gremlins.getX(i), y = gremlins.getY(i);
+                if (x % Constants.TILE_UNITS == 0 && y % Constants.TILE_UNITS == 0
+                        && !steerGremlin(i, x / Constants.TILE_UNITS, y / Constants.TILE_UNITS)) {
+                    break; // Boxed in, nowhere to go
+                }
+                distance -= gremlins.advanceToTile(i, distance);
+            }
+        }
+        gremlinHash.build(gremlins);
+    }
+
+    /**
+     * Picks the direction of a gremlin standing on a tile.
+     * Gremlins head downhill on the flow field; on the wizard's tile or when cut off from
+     * the wizard they wander to a random open neighbour instead.
+     * @param i     Index of the gremlin
+     * @param tileX Column of the gremlin's tile
+     * @param tileY Row of the gremlin's tile
+     * @return true if the gremlin has an open tile to move to, false otherwise
+     */
+    private boolean steerGremlin(int i, int tileX, int tileY) {
+        Direction direction = flowField.towardsTarget(tileX, tileY, gremlins.getDirection(i));
+        if (direction == null) {
+            direction = randomOpenDirection(tileX, tileY);
+            if (direction == null) {
+                return false;
+            }
+        }
+        gremlins.setDirection(i, direction);
+        return true;
+    }
+
+    /**
+     * Picks a random direction leading to an open neighbouring tile.
+     * @param tileX Column of the tile
+     * @param tileY Row of the tile
+     * @return The direction, or null if every neighbour is a wall
+     */
+    private Direction randomOpenDirection(int tileX, int tileY) {
+        int start = random.nextInt(DIRECTIONS.length);
+        for (int k = 0; k < DIRECTIONS.length; k++) {
+            Direction direction = DIRECTIONS[(start + k) % DIRECTIONS.length];
+            if (flowField.isOpen(tileX + FlowField.dx(direction), tileY + FlowField.dy(direction))) {
+                return direction;
             }
-            // Move the gremlin
-            obj.move();
         }
-        // Update start time for the next cycle
-        startTime = currentTime;
+        return null;
+    }
+
+    /**
+     * Moves all projectiles one step along their direction.
+     */
+    public void moveProjectiles() {
+        projectiles.moveAll();
     }
 
     /**
@@ -357,28 +622,50 @@ public class GameObjectManager {
      */
     public void gameOver() {
         // Check if the wizard reaches the exit door
-        if (wizard.getX() == door.getX() && wizard.getY() == door.getY()) {
+        if (door != null && wizard.getFixedX() == (int) door.getX() * Constants.TILE_UNITS
+                && wizard.getFixedY() == (int) door.getY() * Constants.TILE_UNITS) {
             currentLevel++; // Move to the next level
             if (currentLevel == totalLevel) {
                 gameOver = true; // Game over if all levels are completed
             } else {
-                makeGameObjects(); // Load game objects for the next level
+                advanceLevel(); // Swap in the prefetched next level
             }
         }
 
-        // Check for collision between wizard and gremlins
-        for (Gremlin obj : gremlin_list) {
-            if (obj.getIsDead()) { continue; } // Skip dead gremlins
-            if (wizard.getX() == obj.getX() && wizard.getY() == obj.getY()) {
-                if (config.lives == 0) {
-                    gameOver = true; // Game over if no lives left
-                }
+        // A gremlin catching the wizard costs one life and sends the wizard back to its spawn
+        // tile; gremlins cannot hurt it again for a moment, so one contact takes one life
+        long now = clock.millis();
+        if (now >= graceUntil && gremlinTouchesWizard()) {
+            if (config.lives == 0) {
+                gameOver = true; // Game over if no lives left
+            } else {
                 config.lives--; // Decrease lives
-                break; // Exit loop after handling collision
             }
+            wizard.moveTo(spawnX, spawnY);
+            graceUntil = now + Constants.HIT_GRACE_MILLIS;
         }
     }
 
+    /**
+     * Checks whether a live gremlin is within half a step of the wizard.
+     * Only the tiles of the gremlin hash that such a gremlin can stand on are visited.
+     * @return true if a gremlin touches the wizard, false otherwise
+     */
+    private boolean gremlinTouchesWizard() {
+        int x = wizard.getFixedX(), y = wizard.getFixedY();
+        int reach = gremlins.getSpeed(); // More than the half-step isAt() accepts
+        for (int tileX = TileGrid.floorTile(x - reach); tileX <= TileGrid.floorTile(x + reach); tileX++) {
+            for (int tileY = TileGrid.floorTile(y - reach); tileY <= TileGrid.floorTile(y + reach); tileY++) {
+                for (int g = gremlinHash.first(tileX, tileY); g >= 0; g = gremlinHash.next(g)) {
+                    if (!gremlins.isDead(g) && gremlins.isAt(g, x, y)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Checks if the game is over.
      * @return true if the game is over, false otherwise
@@ -387,11 +674,155 @@ public class GameObjectManager {
         return gameOver;
     }
 
+    /**
+     * Sets the listener notified when walls are destroyed, removed or rebuilt.
+     * @param wallListener The listener, or null for none
+     */
+    public void setWallListener(WallListener wallListener) {
+        this.wallListener = wallListener;
+    }
+
+    /**
+     * Get the player's wizard.
+     * @return The wizard of the current level
+     */
+    public Wizard getWizard() {
+        return wizard;
+    }
+
+    /**
+     * Get the camera showing the current level.
+     * @return The camera
+     */
+    public Camera getCamera() {
+        return world.camera;
+    }
+
+    /**
+     * Get the tile grid of the walls in the current level.
+     * @return The wall grid
+     */
+    public TileGrid getWallGrid() {
+        return wallGrid;
+    }
+
+    /**
+     * Get the exit door of the current level.
+     * @return The exit door
+     */
+    public Wall getDoor() {
+        return door;
+    }
+
+    /**
+     * Get the stone walls of the current level.
+     * @return The list of stone walls
+     */
+    public List<Wall> getStoneWalls() {
+        return stone_wall;
+    }
+
+    /**
+     * Get the brick walls of the current level that are not yet fully destroyed.
+     * @return The list of brick walls
+     */
+    public List<Wall> getBrickWalls() {
+        return brick_wall;
+    }
+
+    /**
+     * Get the gremlins of the current level, including dead ones awaiting respawn.
+     * @return The gremlin store
+     */
+    public EntityStore getGremlins() {
+        return gremlins;
+    }
+
+    /**
+     * Get the queue the Controller writes input commands to.
+     * @return The input queue
+     */
+    public InputQueue getInput() {
+        return input;
+    }
+
+    /**
+     * Get the profiler timing the phases of each tick.
+     * @return The profiler
+     */
+    public Profiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Get the projectiles currently in flight.
+     * @return The projectile pool
+     */
+    public ProjectilePool getProjectiles() {
+        return projectiles;
+    }
+
+    /**
+     * Get the images used by the game objects.
+     * @return The image loader, empty when running headless
+     */
+    public ImageLoader getImages() {
+        return imgDir;
+    }
+
+    /**
+     * Get the game configuration.
+     * @return The loaded configuration
+     */
+    public Configuration getConfiguration() {
+        return config;
+    }
+
+    /**
+     * Get the number of lives the player has left.
+     * @return The remaining lives
+     */
+    public int getLives() {
+        return config.lives;
+    }
+
+    /**
+     * Get the index of the level being played.
+     * @return The current level, starting from 0
+     */
+    public int getCurrentLevel() {
+        return currentLevel;
+    }
+
+    /**
+     * Get the number of levels in the game.
+     * @return The total number of levels
+     */
+    public int getTotalLevel() {
+        return totalLevel;
+    }
+
+    /**
+     * Get the number of gremlins killed with fireballs this game.
+     * @return The score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Get the game time played so far, which only advances with ticks.
+     * @return The game time in milliseconds
+     */
+    public long getGameMillis() {
+        return gameMillis();
+    }
+
     /**
      * Handles left arrow key press event.
      */
     public void left_pressed() {
-        wizard.setImg(imgDir.wizard0, Direction.LEFT); // Set wizard image for left direction
+        wizard.setImg(imgDir.get(ImageLoader.WIZARD0), Direction.LEFT); // Set wizard image for left direction
         moveWizard(Direction.LEFT); // Move wizard left
     }
 
@@ -399,7 +830,7 @@ public class GameObjectManager {
      * Handles right arrow key press event.
      */
     public void right_pressed() {
-        wizard.setImg(imgDir.wizard1, Direction.RIGHT); // Set wizard image for right direction
+        wizard.setImg(imgDir.get(ImageLoader.WIZARD1), Direction.RIGHT); // Set wizard image for right direction
         moveWizard(Direction.RIGHT); // Move wizard right
     }
 
@@ -407,7 +838,7 @@ public class GameObjectManager {
      * Handles up arrow key press event.
      */
     public void up_pressed() {
-        wizard.setImg(imgDir.wizard2, Direction.UP); // Set wizard image for up direction
+        wizard.setImg(imgDir.get(ImageLoader.WIZARD2), Direction.UP); // Set wizard image for up direction
         moveWizard(Direction.UP); // Move wizard up
     }
 
@@ -415,7 +846,7 @@ public class GameObjectManager {
      * Handles down arrow key press event.
      */
     public void down_pressed() {
-        wizard.setImg(imgDir.wizard3, Direction.DOWN); // Set wizard image for down direction
+        wizard.setImg(imgDir.get(ImageLoader.WIZARD3), Direction.DOWN); // Set wizard image for down direction
         moveWizard(Direction.DOWN); // Move wizard down
     }
 
@@ -428,13 +859,16 @@ public class GameObjectManager {
 
     /**
      * Fires a projectile from the wizard if conditions allow.
+     * Shots are limited by the configured fire rate and by the free slots of the projectile pool.
      */
     public void shoot() {
-        // Limit the number of projectiles on screen
-        if (projectile_list.size() < 2) {
-            // Create a new projectile and add it to the projectile list
-            Drawable projectile_obj = new Projectile(imgDir.fireball, wizard.getX(), wizard.getY(), wizard.getDirection());
-            projectile_list.add(projectile_obj);
+        long now = clock.millis();
+        if (now - lastShotTime < shotInterval) {
+            return;
+        }
+        // Add a new projectile heading the way the wizard faces, unless the pool is full
+        if (projectiles.acquire(wizard.getFixedX(), wizard.getFixedY(), wizard.getDirection(), ImageLoader.FIREBALL) >= 0) {
+            lastShotTime = now;
         }
     }
 
@@ -0,0 +1,342 @@
+package gremlins;
+
+import processing.awt.PGraphicsJava2D;
+import processing.core.PApplet;
+import processing.core.PImage;
+
+import gremlins.gameObjects.*;
+import gremlins.setup.Constants;
+import gremlins.setup.ImageLoader;
+import gremlins.setup.SpriteAtlas;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Renders the state of a GameObjectManager onto a PApplet.
+ * Only reads the game world; all updates happen in GameObjectManager.tick().
+ *
+ * On JAVA2D the renderer can repaint only what changed: the cells covered by moving sprites
+ * in this frame and the last, by animating brick walls and by changed parts of the bottom
+ * bar. The normal drawing then runs clipped to those cells, so Java2D only fills and blends
+ * their pixels and the rest of the window keeps the previous frame. A level change, a camera
+ * move or the game over screen repaints the whole window.
+ */
+public class GameRenderer {
+
+    private PApplet parent; // The PApplet to draw on
+    private WallLayer wallLayer; // Cached image of the static walls
+    private Hud hud; // Cached image of the bottom bar
+    private SpriteBatch batch; // Collects the frame's sprites into one draw
+    private PImage[] sprites; // Images indexed by sprite id
+
+    private static final int PROFILE_WIDTH = 250; // Width of the timing overlay's panel
+    private static final int PROFILE_LINE = 14; // Height of a line of the timing overlay
+
+    private DirtyRegion dirty; // Cells to repaint this frame, or null to repaint every frame in full
+    private Shape repaint; // Clip of this frame's repaint, or null for the whole window
+    private float[] shown = new float[64]; // Window positions of the moving sprites drawn last frame, x then y
+    private int shownCount = 0; // Number of moving sprites drawn last frame
+    private TileGrid shownGrid; // Wall grid of the level drawn last frame
+    private int shownLeft = -1, shownTop = -1; // Camera offset of the last frame
+    private boolean shownProfile = false; // Whether the last frame showed the timing overlay
+
+    /**
+     * Constructor for GameRenderer. Packs the images into a sprite atlas.
+     * @param parent The PApplet to draw on
+     * @param images The loaded game images
+     */
+    public GameRenderer(PApplet parent, ImageLoader images) {
+        this.parent = parent;
+        this.wallLayer = new WallLayer(parent, images);
+        this.hud = new Hud(parent, images.get(ImageLoader.WIZARD1));
+        this.batch = new SpriteBatch(parent, new SpriteAtlas(parent, images));
+        this.sprites = images.getAll();
+    }
+
+    /**
+     * Turns dirty-rectangle rendering on or off. It only takes effect on JAVA2D; the OpenGL
+     * renderers clear the window every frame and keep repainting it in full.
+     * @param enabled true to repaint only what changed since the last frame
+     */
+    public void setDirtyRectangles(boolean enabled) {
+        dirty = enabled && !batch.isBatched() && parent.g instanceof PGraphicsJava2D
+                ? new DirtyRegion(Constants.WIDTH, Constants.HEIGHT, Constants.SPRITESIZE) : null;
+    }
+
+    /**
+     * Check whether only what changed is repainted each frame.
+     * @return true if dirty-rectangle rendering is on
+     */
+    public boolean isDirtyRectangles() {
+        return dirty != null;
+    }
+
+    /**
+     * Get the cached wall layer, which must be registered as the game's wall listener.
+     * @return The wall layer
+     */
+    public WallLayer getWallLayer() {
+        return wallLayer;
+    }
+
+    /**
+     * Draws a full frame of the game at the latest tick positions.
+     * @param game The game world to draw
+     */
+    public void draw(GameObjectManager game) {
+        draw(game, 1);
+    }
+
+    /**
+     * Draws a full frame of the game, with moving objects interpolated between ticks.
+     * @param game  The game world to draw
+     * @param alpha Fraction of a tick elapsed since the last update
+     */
+    public void draw(GameObjectManager game, float alpha) {
+        if (dirty != null && !beginRepaint(game, alpha)) {
+            return; // Nothing on screen changed since the last frame
+        }
+        parent.background(194, 164, 135); // Set background color
+
+        // Display game over message if game is over
+        if (game.isGameOver()) {
+            parent.fill(255); // Set text color to white
+            parent.textAlign(PApplet.CENTER); // Center align text
+            parent.text("GAME OVER!!! Press R to Restart", Constants.WIDTH/2, Constants.HEIGHT/2); // Display game over message
+            endRepaint();
+            return;
+        }
+
+        // Draw the level through the camera, clipped to the area above the bottom bar
+        Camera camera = game.getCamera();
+        clipView(camera);
+        parent.pushMatrix();
+        parent.translate(-camera.getLeft(), -camera.getTop());
+        drawObjects(game, alpha); // Draw all game objects
+        batch.flush(); // Submit every sprite of the level at once
+        drawExit(game); // Draw exit area over the sprites, as before batching
+        parent.popMatrix();
+        unclipView();
+
+        drawBottomBar(game); // Draw bottom bar UI
+        if (game.getProfiler().isOverlayShown()) {
+            drawProfile(game.getProfiler()); // Draw timings over everything else
+        }
+        endRepaint();
+    }
+
+    /**
+     * Marks what changed since the last frame and clips drawing to it.
+     * @param game  The game world to draw
+     * @param alpha Fraction of a tick elapsed since the last update
+     * @return true if anything must be repainted, false otherwise
+     */
+    private boolean beginRepaint(GameObjectManager game, float alpha) {
+        Camera camera = game.getCamera();
+        int left = camera.getLeft(), top = camera.getTop();
+        if (game.isGameOver() || game.getWallGrid() != shownGrid || left != shownLeft || top != shownTop) {
+            dirty.markAll();
+        }
+        shownGrid = game.getWallGrid();
+        shownLeft = left;
+        shownTop = top;
+
+        // Erase the moving sprites where they were, then draw them where they are
+        for (int i = 0; i < shownCount; i++) {
+            dirty.mark(shown[i * 2], shown[i * 2 + 1], Constants.SPRITESIZE, Constants.SPRITESIZE);
+        }
+        shownCount = 0;
+        if (game.getWizard() != null) {
+            show(game.getWizard().getFixedX() / (float) Constants.SUBPIXELS - left,
+                    game.getWizard().getFixedY() / (float) Constants.SUBPIXELS - top);
+        }
+        showStore(game.getGremlins(), camera, alpha);
+        showStore(game.getProjectiles(), camera, alpha);
+        wallLayer.markAnimating(dirty, camera);
+
+        if (hud.update(game)) {
+            dirty.mark(0, Constants.HEIGHT - Constants.BOTTOMBAR, Constants.WIDTH, Constants.BOTTOMBAR);
+        }
+        boolean profile = game.getProfiler().isOverlayShown();
+        if (profile || shownProfile) {
+            dirty.mark(0, 0, PROFILE_WIDTH, profileHeight()); // The timings change every frame
+        }
+        shownProfile = profile;
+
+        if (dirty.isEmpty()) {
+            return false;
+        }
+        repaint = dirty.isFull() ? null : dirty.toShape();
+        graphics().setClip(repaint);
+        return true;
+    }
+
+    /**
+     * Marks the moving sprites of a store that are in view and remembers where they were drawn.
+     */
+    private void showStore(EntityStore store, Camera camera, float alpha) {
+        for (int i = 0; i < store.size(); i++) {
+            if (store.isDead(i)) {
+                continue;
+            }
+            float x = store.drawX(i, alpha), y = store.drawY(i, alpha);
+            if (camera.sees(x, y, Constants.SPRITESIZE)) {
+                show(x - camera.getLeft(), y - camera.getTop());
+            }
+        }
+    }
+
+    /**
+     * Marks a moving sprite at a window position and remembers it for the next frame.
+     */
+    private void show(float x, float y) {
+        if (shownCount * 2 == shown.length) {
+            shown = Arrays.copyOf(shown, shown.length * 2);
+        }
+        shown[shownCount * 2] = x;
+        shown[shownCount * 2 + 1] = y;
+        shownCount++;
+        dirty.mark(x, y, Constants.SPRITESIZE, Constants.SPRITESIZE);
+    }
+
+    /**
+     * Unmarks the repainted cells and lifts the repaint clip.
+     */
+    private void endRepaint() {
+        if (dirty != null) {
+            dirty.clear();
+            graphics().setClip(null);
+        }
+    }
+
+    /**
+     * Clips drawing to the part of the window showing the level.
+     * When repainting only what changed, the view is intersected with the repaint clip.
+     */
+    private void clipView(Camera camera) {
+        if (dirty == null) {
+            parent.clip(0, 0, camera.getViewWidth(), camera.getViewHeight());
+        } else {
+            graphics().clip(new Rectangle(0, 0, camera.getViewWidth(), camera.getViewHeight()));
+        }
+    }
+
+    /**
+     * Lifts the clip of clipView(), back to the repaint clip if there is one.
+     */
+    private void unclipView() {
+        if (dirty == null) {
+            parent.noClip();
+        } else {
+            graphics().setClip(repaint);
+        }
+    }
+
+    /**
+     * Get the Java2D context of the window, only used for dirty-rectangle rendering.
+     */
+    private Graphics2D graphics() {
+        return ((PGraphicsJava2D) parent.g).g2;
+    }
+
+    /**
+     * Draws the cached walls and queues the sprites of all other game objects.
+     * @param game  The game world to draw
+     * @param alpha Fraction of a tick elapsed since the last update
+     */
+    public void drawObjects(GameObjectManager game, float alpha) {
+        // Draw the cached walls, then the moving objects
+        wallLayer.draw(game, batch);
+
+        // Draw wizard if exists
+        if (game.getWizard() != null) {
+            game.getWizard().draw(batch, alpha);
+        }
+        drawStore(game.getGremlins(), game.getCamera(), alpha);
+        drawStore(game.getProjectiles(), game.getCamera(), alpha);
+    }
+
+    /**
+     * Queues every entity of a store in view, skipping those marked as dead.
+     * @param store  The entities to draw
+     * @param camera The camera whose view is drawn
+     * @param alpha  Fraction of a tick elapsed since the last update
+     */
+    private void drawStore(EntityStore store, Camera camera, float alpha) {
+        for (int i = 0; i < store.size(); i++) {
+            if (store.isDead(i)) {
+                continue;
+            }
+            float x = store.drawX(i, alpha), y = store.drawY(i, alpha);
+            if (camera.sees(x, y, Constants.SPRITESIZE)) {
+                batch.draw(sprites[store.getSprite(i)], x, y);
+            }
+        }
+    }
+
+    /**
+     * Draws the bottom bar displaying player lives, score, play time and current level information.
+     * The bar is a cached image, only rendered again when what it shows changes.
+     * @param game The game world to draw
+     */
+    public void drawBottomBar(GameObjectManager game) {
+        hud.update(game);
+        parent.image(hud.getImage(), 0, Constants.HEIGHT - Constants.BOTTOMBAR);
+    }
+
+    /**
+     * Draws the timing overlay: the median, 99th percentile and maximum of each phase.
+     * @param profiler The profiler holding the timings
+     */
+    public void drawProfile(Profiler profiler) {
+        int lineHeight = PROFILE_LINE;
+        parent.pushStyle();
+        parent.noStroke();
+        parent.fill(0, 160);
+        parent.rect(0, 0, PROFILE_WIDTH, profileHeight());
+
+        parent.fill(255);
+        parent.textSize(12);
+        parent.textAlign(PApplet.LEFT);
+        String[] columns = {"phase", "p50", "p99", "max ms"};
+        int[] x = {6, 100, 150, 200}; // Column positions; the default font is not monospaced
+        for (int c = 0; c < columns.length; c++) {
+            parent.text(columns[c], x[c], lineHeight);
+        }
+        for (int i = 0; i < Profiler.PHASE_NAMES.length; i++) {
+            LatencyHistogram h = profiler.get(i);
+            float y = lineHeight * (i + 2);
+            parent.text(Profiler.PHASE_NAMES[i], x[0], y);
+            parent.text(String.format(Locale.ROOT, "%.3f", h.percentile(0.5) / 1e6), x[1], y);
+            parent.text(String.format(Locale.ROOT, "%.3f", h.percentile(0.99) / 1e6), x[2], y);
+            parent.text(String.format(Locale.ROOT, "%.3f", h.getMax() / 1e6), x[3], y);
+        }
+        parent.popStyle();
+    }
+
+    /**
+     * Get the height of the timing overlay's panel.
+     */
+    private static int profileHeight() {
+        return PROFILE_LINE * (Profiler.PHASE_NAMES.length + 1) + 6;
+    }
+
+    /**
+     * Draws the exit door on the screen.
+     * @param game The game world to draw
+     */
+    public void drawExit(GameObjectManager game) {
+        Wall door = game.getDoor();
+        if (door == null || !game.getCamera().sees((float) (door.getX() * 20), (float) (door.getY() * 20), 20)) {
+            return; // Level has no exit, or it is out of view
+        }
+        parent.textSize(20); // Set every frame, so no other text's size carries over
+        parent.fill(255);
+        parent.text("EXIT", (float)(door.getX() * 20), (float)(door.getY() * 20));
+        parent.rect((float)(door.getX() * 20), (float)(door.getY() * 20), 20, 20);
+    }
+}
@@ -0,0 +1,74 @@
+package gremlins;
+
+/**
+ * Runs the game simulation without a Processing window.
+ * Steps a GameObjectManager as fast as possible and reports the achieved tick rate,
+ * starting a fresh game whenever the current one ends.
+ */
+public class HeadlessRunner {
+
+    private GameObjectManager gameObjectManager; // The simulated game world
+    private int gamesPlayed = 0; // Number of games started so far
+
+    /**
+     * Constructor for HeadlessRunner. Loads the configuration and the first level.
+     */
+    public HeadlessRunner() {
+        newGame();
+    }
+
+    /**
+     * Starts a new game from the first level.
+     */
+    private void newGame() {
+        gameObjectManager = new GameObjectManager();
+        gameObjectManager.loadConfigurations();
+        gameObjectManager.makeGameObjects();
+        gamesPlayed++;
+    }
+
+    /**
+     * Advances the simulation by the given number of ticks.
+     * @param ticks The number of ticks to run
+     */
+    public void run(long ticks) {
+        for (long i = 0; i < ticks; i++) {
+            if (gameObjectManager.isGameOver()) {
+                newGame();
+            }
+            gameObjectManager.tick();
+        }
+    }
+
+    /**
+     * Get the game world currently being simulated.
+     * @return The current GameObjectManager
+     */
+    public GameObjectManager getGameObjectManager() {
+        return gameObjectManager;
+    }
+
+    /**
+     * Get the number of games started so far, including the current one.
+     * @return The number of games played
+     */
+    public int getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    /**
+     * Main method to run the simulation headless.
+     * @param args Optional number of ticks to run (default 100000)
+     */
+    public static void main(String[] args) {
+        long ticks = args.length > 0 ? Long.parseLong(args[0]) : 100000;
+
+        HeadlessRunner runner = new HeadlessRunner();
+        long start = System.nanoTime();
+        runner.run(ticks);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%d ticks in %.3f s (%.0f ticks/s), %d game(s) played%n",
+                ticks, seconds, ticks / seconds, runner.getGamesPlayed());
+    }
+}
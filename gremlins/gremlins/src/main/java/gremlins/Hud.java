@@ -0,0 +1,104 @@
+package gremlins;
+
+import processing.core.PApplet;
+import processing.core.PGraphics;
+import processing.core.PImage;
+
+import gremlins.setup.Constants;
+
+import java.util.Locale;
+
+/**
+ * The bottom bar: lives, score, play time and level, rendered into a cached image.
+ * The image is only rendered again when something it shows changes. Lives and level are
+ * checked every frame, since they change on rare events; the score and the timer are read
+ * at most once per second of game time, so a frame usually just copies the image.
+ */
+public class Hud {
+
+    private static final int REFRESH_MILLIS = 1000; // Least game time between two reads of the score and timer
+    private static final int SCORE_X = Constants.WIDTH / 2 - 60; // Left edge of the score and timer text
+
+    private PApplet parent; // The PApplet the image is created on
+    private PImage lifeIcon; // Image drawn for each life left, may be null
+    private PGraphics image; // The rendered bar, created on the first update
+
+    private int lives = -1; // Lives shown
+    private int level = -1; // Level index shown
+    private int totalLevel = -1; // Number of levels shown
+    private int score = -1; // Score shown
+    private long seconds = -1; // Whole seconds of play time shown
+    private long nextRefresh = Long.MIN_VALUE; // Game time at which the score and timer are next read
+
+    /**
+     * Constructor for Hud.
+     * @param parent   The PApplet the image is created on
+     * @param lifeIcon Image drawn for each life left, may be null
+     */
+    public Hud(PApplet parent, PImage lifeIcon) {
+        this.parent = parent;
+        this.lifeIcon = lifeIcon;
+    }
+
+    /**
+     * Renders the bar again if anything it shows has changed.
+     * @param game The game world shown
+     * @return true if the image changed, false otherwise
+     */
+    public boolean update(GameObjectManager game) {
+        boolean changed = image == null || game.getLives() != lives
+                || game.getCurrentLevel() != level || game.getTotalLevel() != totalLevel;
+        lives = game.getLives();
+        level = game.getCurrentLevel();
+        totalLevel = game.getTotalLevel();
+
+        long now = game.getGameMillis();
+        if (now >= nextRefresh || now < nextRefresh - REFRESH_MILLIS) {
+            changed |= game.getScore() != score || now / 1000 != seconds;
+            score = game.getScore();
+            seconds = now / 1000;
+            nextRefresh = (seconds + 1) * 1000; // The next whole second
+        }
+
+        if (changed) {
+            render();
+        }
+        return changed;
+    }
+
+    /**
+     * Get the rendered bar, to be drawn at the bottom of the window.
+     * @return The image, or null before the first update
+     */
+    public PImage getImage() {
+        return image;
+    }
+
+    /**
+     * Draws the bar's contents into the image.
+     */
+    private void render() {
+        if (image == null) {
+            image = parent.createGraphics(Constants.WIDTH, Constants.BOTTOMBAR);
+        }
+        int baseline = Constants.BOTTOMBAR - 25;
+        image.beginDraw();
+        image.background(194, 164, 135); // Same as the window, so the text blends the same way
+        image.textSize(20);
+        image.fill(255);
+        image.text("Lives:", 10, baseline);
+
+        // Only as many icons as fit before the score, however many lives are left
+        if (lifeIcon != null) {
+            for (int x = Constants.widthOfNumOfLives, i = 0; i < lives && x + 20 <= SCORE_X; i++, x += 20) {
+                image.image(lifeIcon, x, Constants.BOTTOMBAR - 40);
+            }
+        }
+
+        image.text(String.format(Locale.ROOT, "Score %d   %d:%02d", score, seconds / 60, seconds % 60), SCORE_X, baseline);
+
+        String text_level = "Level " + (level + 1) + "/" + totalLevel;
+        image.text(text_level, Constants.widthOfNumOfLives + Constants.WIDTH - 200, baseline);
+        image.endDraw();
+    }
+}
@@ -0,0 +1,75 @@
+package gremlins;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free single-producer, single-consumer queue of input commands.
+ * The Controller offers commands from Processing's event thread and the game loop
+ * polls them at the start of each tick, so the game world is only ever changed on
+ * the game thread. When the queue is full new commands are dropped.
+ */
+public class InputQueue {
+
+    // Input commands
+    public static final int LEFT = 0;
+    public static final int RIGHT = 1;
+    public static final int UP = 2;
+    public static final int DOWN = 3;
+    public static final int STOP = 4;
+    public static final int SHOOT = 5;
+
+    public static final int EMPTY = -1; // Returned by poll() when there is no command
+
+    private final int[] commands; // Ring buffer, length a power of two
+    private final int mask; // Index mask of the ring buffer
+
+    private final AtomicLong head = new AtomicLong(); // Next slot to read, only advanced by the consumer
+    private final AtomicLong tail = new AtomicLong(); // Next slot to write, only advanced by the producer
+
+    /**
+     * Constructor for InputQueue.
+     * @param capacity Minimum number of commands the queue holds, rounded up to a power of two
+     */
+    public InputQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.commands = new int[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds a command. Must only be called from the producer thread.
+     * @param command The command to add
+     * @return true if the command was added, false if the queue was full
+     */
+    public boolean offer(int command) {
+        long t = tail.get();
+        if (t - head.get() == commands.length) {
+            return false;
+        }
+        commands[(int) t & mask] = command;
+        tail.lazySet(t + 1); // Publishes the command to the consumer
+        return true;
+    }
+
+    /**
+     * Removes the oldest command. Must only be called from the consumer thread.
+     * @return The command, or EMPTY if there is none
+     */
+    public int poll() {
+        long h = head.get();
+        if (h == tail.get()) {
+            return EMPTY;
+        }
+        int command = commands[(int) h & mask];
+        head.lazySet(h + 1); // Frees the slot for the producer
+        return command;
+    }
+
+    /**
+     * Check whether no commands are waiting.
+     * @return true if the queue is empty
+     */
+    public boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+}
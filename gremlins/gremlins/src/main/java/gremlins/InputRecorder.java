@@ -0,0 +1,105 @@
+package gremlins;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Writes the seed and the input of a game session to a file so ReplayPlayer can repeat it exactly.
+ *
+ * <pre>
+ * int  MAGIC, VERSION
+ * long seed
+ * UTF  configuration path
+ * per command: varint ticks since the previous command, byte command
+ * end:         varint ticks since the previous command, byte END
+ * </pre>
+ */
+public class InputRecorder implements Closeable {
+
+    public static final int MAGIC = 0x47525250; // "GRRP"
+    public static final int VERSION = 1;
+    public static final int END = 0xFF; // Command byte marking the end of the session
+
+    private DataOutputStream out; // The recording, null once closed or failed
+    private long lastTick = 0; // Tick of the previously written command
+
+    /**
+     * Constructor for InputRecorder. Creates the file and writes the header.
+     * @param file       The file to record to
+     * @param seed       Seed of the game's random number generator
+     * @param configPath Path of the configuration the game was loaded from
+     */
+    public InputRecorder(File file, long seed, String configPath) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(seed);
+        out.writeUTF(configPath);
+    }
+
+    /**
+     * Records a command applied at the start of a tick.
+     * @param tick    Number of ticks run before this one
+     * @param command One of the InputQueue command constants
+     */
+    public void record(long tick, int command) {
+        write(tick, command);
+    }
+
+    /**
+     * Marks the end of the session and closes the file.
+     * @param tick Number of ticks the session ran for
+     */
+    public void finish(long tick) {
+        write(tick, END);
+        close();
+    }
+
+    /**
+     * Closes the file. A recording closed without finish() replays up to its last command.
+     */
+    @Override
+    public void close() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        out = null;
+    }
+
+    /**
+     * Writes one entry; stops recording if the file cannot be written.
+     */
+    private void write(long tick, int command) {
+        if (out == null) {
+            return;
+        }
+        try {
+            writeVarLong(tick - lastTick);
+            out.writeByte(command);
+            lastTick = tick;
+        } catch (IOException e) {
+            e.printStackTrace();
+            close();
+        }
+    }
+
+    /**
+     * Writes a non-negative number in 7-bit groups, so short gaps between commands take one byte.
+     */
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+}
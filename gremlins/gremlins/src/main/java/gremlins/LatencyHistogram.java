@@ -0,0 +1,115 @@
+package gremlins;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size histogram of durations in nanoseconds with about 6% relative precision.
+ * Like an HDR histogram, values are bucketed by power of two and then split into
+ * 16 linear sub-buckets, so recording is a few bit operations and never allocates,
+ * while percentiles stay accurate from nanoseconds up to minutes.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BITS = 4; // log2 of the sub-buckets per power of two
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int LINEAR = SUB_BUCKETS * 2; // Values below this get a bucket each
+    private static final int LINEAR_BITS = 5; // log2 of LINEAR
+
+    private final long[] counts = new long[LINEAR + (63 - LINEAR_BITS) * SUB_BUCKETS];
+    private long count = 0; // Number of recorded values
+    private long total = 0; // Sum of recorded values
+    private long max = 0; // Largest recorded value
+
+    /**
+     * Records one duration.
+     * @param nanos The duration in nanoseconds; negative values count as zero
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[index(value)]++;
+        count++;
+        total += value;
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Get the bucket a value falls in.
+     */
+    private static int index(long value) {
+        if (value < LINEAR) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value); // At least LINEAR_BITS
+        int sub = (int) (value >>> (magnitude - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR + (magnitude - LINEAR_BITS) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Get the largest value that falls in a bucket.
+     */
+    private static long highestValue(int index) {
+        if (index < LINEAR) {
+            return index;
+        }
+        int magnitude = (index - LINEAR) / SUB_BUCKETS + LINEAR_BITS;
+        int sub = (index - LINEAR) % SUB_BUCKETS;
+        long lowest = (1L << magnitude) + ((long) sub << (magnitude - SUB_BITS));
+        return lowest + (1L << (magnitude - SUB_BITS)) - 1;
+    }
+
+    /**
+     * Get the value below which a fraction of the recorded values fall.
+     * @param fraction The fraction, e.g. 0.99 for the 99th percentile
+     * @return The value in nanoseconds, or 0 if nothing was recorded
+     */
+    public long percentile(double fraction) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Get the number of recorded values.
+     * @return The count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Get the largest recorded value.
+     * @return The maximum in nanoseconds
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Get the average of the recorded values.
+     * @return The mean in nanoseconds, or 0 if nothing was recorded
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * Forgets every recorded value.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        total = 0;
+        max = 0;
+    }
+}
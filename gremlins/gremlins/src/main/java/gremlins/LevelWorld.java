@@ -0,0 +1,180 @@
+package gremlins;
+
+import gremlins.gameObjects.*;
+import gremlins.setup.Constants;
+import gremlins.setup.Direction;
+import gremlins.setup.ImageLoader;
+import gremlins.setup.LevelDetails;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The objects of one level: walls, wall grid, flow field, gremlins, wizard, exit and camera.
+ * Building touches nothing but its inputs, so the next level can be built on a background
+ * thread while the current one is played and handed to GameObjectManager in one step.
+ *
+ * The wall grid reads the layout chunk by chunk as it is touched, and wall objects only
+ * exist for the active chunks: those in the camera's view plus Constants.CHUNK_MARGIN
+ * chunks around it. As the camera moves, walls of chunks entering the active area are
+ * created from the grid and walls of chunks leaving it are dropped, so the wall lists,
+ * the flow field and gremlin movement stay the size of the area around the wizard
+ * however large the level is.
+ */
+public class LevelWorld {
+
+    final List<Wall> stone_wall = new ArrayList<>(); // Stone walls of the active chunks
+    final List<Wall> brick_wall = new ArrayList<>(); // Brick walls of the active chunks
+    final TileGrid wallGrid; // Tile index of the walls
+    final FlowField flowField; // Distances to the wizard, computed on the first tick
+    final EntityStore gremlins; // Gremlins at their spawn tiles
+    final Camera camera = new Camera(Constants.VIEW_WIDTH, Constants.VIEW_HEIGHT); // View following the wizard
+    Wizard wizard; // The player's wizard at its spawn tile
+    Wall door; // The exit door, or null if the level has none
+
+    private final ImageLoader imgDir; // The loaded game images, only read
+
+    // Inclusive rectangle of active chunks; empty until the first activation
+    private int minChunkX = 0, minChunkY = 0, maxChunkX = -1, maxChunkY = -1;
+
+    /**
+     * Builds the objects of a level and the walls around the wizard's spawn.
+     * @param level        The level layout
+     * @param imgDir       The loaded game images, only read
+     * @param gremlinSpeed Units the gremlins move per tick
+     */
+    public LevelWorld(LevelDetails level, ImageLoader imgDir, int gremlinSpeed) {
+        this.imgDir = imgDir;
+        wallGrid = new TileGrid(level);
+        flowField = new FlowField(wallGrid);
+        gremlins = new EntityStore(16, gremlinSpeed);
+        camera.setWorld(level.getColumns(), level.getRows());
+
+        for (int k = 0; k < level.getSpawnCount(); k++) {
+            int j = level.getSpawnX(k);
+            int i = level.getSpawnY(k);
+            switch (level.getSpawnSymbol(k)) {
+                case 'G':
+                    // Gremlins pick their direction from the flow field on their first move
+                    gremlins.add(j * Constants.TILE_UNITS, i * Constants.TILE_UNITS,
+                            Direction.LEFT, ImageLoader.GREMLIN);
+                    break;
+                case 'E':
+                    door = new Wall(j, i); // Create exit door
+                    break;
+                case 'W':
+                    wizard = new Wizard(imgDir.get(ImageLoader.WIZARD0), j, i, imgDir); // Initialize player wizard
+                    break;
+            }
+        }
+        followWizard();
+    }
+
+    /**
+     * Centres the camera on the wizard and updates the active chunks to match.
+     * @return true if the active chunks changed, false otherwise
+     */
+    public boolean followWizard() {
+        if (wizard != null) {
+            camera.follow(wizard.getFixedX() / Constants.SUBPIXELS + Constants.SPRITESIZE / 2,
+                    wizard.getFixedY() / Constants.SUBPIXELS + Constants.SPRITESIZE / 2);
+        }
+        int margin = Constants.CHUNK_MARGIN;
+        return activate(
+                Math.max(0, (camera.getFirstColumn() >> TileGrid.CHUNK_SHIFT) - margin),
+                Math.max(0, (camera.getFirstRow() >> TileGrid.CHUNK_SHIFT) - margin),
+                Math.min(wallGrid.getChunkColumns() - 1, (camera.getLastColumn() >> TileGrid.CHUNK_SHIFT) + margin),
+                Math.min(wallGrid.getChunkRows() - 1, (camera.getLastRow() >> TileGrid.CHUNK_SHIFT) + margin));
+    }
+
+    /**
+     * Makes a rectangle of chunks the active area: drops the walls of chunks leaving it,
+     * creates the walls of chunks entering it and bounds the flow field to it.
+     * @return true if the active chunks changed, false otherwise
+     */
+    private boolean activate(int minX, int minY, int maxX, int maxY) {
+        if (minX == minChunkX && minY == minChunkY && maxX == maxChunkX && maxY == maxChunkY) {
+            return false;
+        }
+        int oldMinX = minChunkX, oldMinY = minChunkY, oldMaxX = maxChunkX, oldMaxY = maxChunkY;
+        minChunkX = minX;
+        minChunkY = minY;
+        maxChunkX = maxX;
+        maxChunkY = maxY;
+
+        deactivateWalls(stone_wall);
+        deactivateWalls(brick_wall);
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                if (cx < oldMinX || cx > oldMaxX || cy < oldMinY || cy > oldMaxY) {
+                    createWalls(cx, cy);
+                }
+            }
+        }
+
+        int size = TileGrid.CHUNK_SIZE;
+        flowField.setBounds(minX * size, minY * size, (maxX + 1) * size - 1, (maxY + 1) * size - 1);
+        return true;
+    }
+
+    /**
+     * Drops the walls that no longer lie in an active chunk.
+     * Their tiles keep their walls in the grid; a brick wall already being destroyed is
+     * removed from the grid as if its animation had finished.
+     */
+    private void deactivateWalls(List<Wall> walls) {
+        boolean dropped = false;
+        for (int i = 0; i < walls.size(); i++) {
+            Wall wall = walls.get(i);
+            int x = (int) wall.getX(), y = (int) wall.getY();
+            if (!isActive(x, y)) {
+                wall.isDead = true;
+                dropped = true;
+                if (wallGrid.get(x, y) == TileGrid.BRICK) {
+                    if (wall.isDestroying()) {
+                        wallGrid.clear(x, y);
+                    } else {
+                        wallGrid.setBrick(x, y, null);
+                    }
+                }
+            }
+        }
+        if (dropped) {
+            Compaction.removeDead(walls);
+        }
+    }
+
+    /**
+     * Creates a wall object for every wall tile of a chunk.
+     */
+    private void createWalls(int chunkX, int chunkY) {
+        int left = chunkX * TileGrid.CHUNK_SIZE, top = chunkY * TileGrid.CHUNK_SIZE;
+        int right = Math.min(left + TileGrid.CHUNK_SIZE, wallGrid.getColumns());
+        int bottom = Math.min(top + TileGrid.CHUNK_SIZE, wallGrid.getRows());
+        for (int i = top; i < bottom; i++) {
+            for (int j = left; j < right; j++) {
+                switch (wallGrid.get(j, i)) {
+                    case TileGrid.STONE:
+                        stone_wall.add(new Wall(imgDir.get(ImageLoader.STONEWALL), j, i, imgDir));
+                        break;
+                    case TileGrid.BRICK:
+                        Wall brick = new Wall(imgDir.get(ImageLoader.BRICKWALL), j, i, imgDir);
+                        brick_wall.add(brick);
+                        wallGrid.setBrick(j, i, brick);
+                        break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Check whether a tile lies in an active chunk.
+     * @param x Column of the tile
+     * @param y Row of the tile
+     * @return true if the tile's walls and gremlins are simulated, false otherwise
+     */
+    public boolean isActive(int x, int y) {
+        int cx = x >> TileGrid.CHUNK_SHIFT, cy = y >> TileGrid.CHUNK_SHIFT;
+        return x >= 0 && y >= 0 && cx >= minChunkX && cx <= maxChunkX && cy >= minChunkY && cy <= maxChunkY;
+    }
+}
@@ -0,0 +1,125 @@
+package gremlins;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+
+/**
+ * Times the phases of each tick and frame with System.nanoTime() into latency histograms.
+ * Timing is wrapped around a phase with start() and lap(); while the profiler is disabled
+ * both return immediately without reading the clock, so the instrumentation costs one
+ * field read per phase.
+ */
+public class Profiler {
+
+    // Phases
+    public static final int TICK = 0; // A whole tick
+    public static final int INPUT = 1; // Applying queued input
+    public static final int WALLS = 2; // Removing destroyed walls
+    public static final int COLLISIONS = 3; // Projectile hits on walls and gremlins
+    public static final int GREMLINS = 4; // Steering and moving gremlins
+    public static final int PROJECTILES = 5; // Wall animations and projectile movement
+    public static final int RULES = 6; // Respawning and game over checks
+    public static final int RENDER = 7; // Drawing a frame
+    public static final int FRAME = 8; // A whole frame: ticks and drawing
+
+    public static final String[] PHASE_NAMES = {
+            "tick", "input", "walls", "collisions", "gremlins", "projectiles", "rules", "render", "frame"};
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[PHASE_NAMES.length];
+    private volatile boolean enabled = false; // Whether phases are being timed
+    private volatile boolean overlay = false; // Whether the timings are shown in game
+
+    /**
+     * Constructor for Profiler. Starts disabled.
+     */
+    public Profiler() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Marks the start of a phase.
+     * @return The current time, or 0 while disabled
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time since a start() or lap() as one run of a phase.
+     * @param phase One of the phase constants
+     * @param since The value returned by the previous start() or lap()
+     * @return The current time, to time the following phase from, or 0 while disabled
+     */
+    public long lap(int phase, long since) {
+        if (!enabled || since == 0) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        histograms[phase].record(now - since);
+        return now;
+    }
+
+    /**
+     * Turns timing on or off.
+     * @param enabled true to time phases
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Check whether phases are being timed.
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Shows or hides the in-game overlay; showing it also turns timing on.
+     * Safe to call from the event thread.
+     */
+    public void toggleOverlay() {
+        overlay = !overlay;
+        if (overlay) {
+            enabled = true;
+        }
+    }
+
+    /**
+     * Check whether the in-game overlay is shown.
+     * @return true if shown
+     */
+    public boolean isOverlayShown() {
+        return overlay;
+    }
+
+    /**
+     * Get the timings of a phase.
+     * @param phase One of the phase constants
+     * @return The histogram of the phase
+     */
+    public LatencyHistogram get(int phase) {
+        return histograms[phase];
+    }
+
+    /**
+     * Writes one line per phase with its count, percentiles, maximum and mean in microseconds.
+     * @param file The CSV file to write
+     */
+    public void writeCsv(File file) throws IOException {
+        try (PrintWriter out = new PrintWriter(file)) {
+            out.println("phase,count,p50_us,p90_us,p99_us,max_us,mean_us");
+            for (int i = 0; i < histograms.length; i++) {
+                LatencyHistogram h = histograms[i];
+                out.printf(Locale.ROOT, "%s,%d,%.1f,%.1f,%.1f,%.1f,%.1f%n", PHASE_NAMES[i], h.getCount(),
+                        h.percentile(0.5) / 1e3, h.percentile(0.9) / 1e3, h.percentile(0.99) / 1e3,
+                        h.getMax() / 1e3, h.getMean() / 1e3);
+            }
+        }
+    }
+}
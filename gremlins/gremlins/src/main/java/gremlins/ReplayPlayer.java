@@ -0,0 +1,152 @@
+package gremlins;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Replays a session recorded by InputRecorder without a display.
+ * The game is loaded with the recorded configuration and seed, and every command is
+ * applied at the start of the tick it was recorded in, so the session plays out exactly
+ * as it did live and can be benchmarked or inspected tick by tick.
+ */
+public class ReplayPlayer {
+
+    private long seed; // Seed of the recorded game
+    private String configPath; // Configuration the recorded game was loaded from
+    private long[] ticks = new long[64]; // Tick each command was applied in
+    private int[] commands = new int[64]; // Recorded commands
+    private int count = 0; // Number of recorded commands
+    private long length = -1; // Ticks the session ran for, -1 if the recording was cut short
+
+    /**
+     * Constructor for ReplayPlayer. Reads the whole recording.
+     * @param file The recording
+     */
+    public ReplayPlayer(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != InputRecorder.MAGIC) {
+                throw new IOException(file + " is not an input recording");
+            }
+            if (in.readInt() != InputRecorder.VERSION) {
+                throw new IOException(file + " has an unsupported recording version");
+            }
+            seed = in.readLong();
+            configPath = in.readUTF();
+
+            long tick = 0;
+            while (true) {
+                try {
+                    tick += readVarLong(in);
+                } catch (EOFException e) {
+                    break; // Not finished, e.g. the game was killed
+                }
+                int command = in.readUnsignedByte();
+                if (command == InputRecorder.END) {
+                    length = tick;
+                    break;
+                }
+                add(tick, command);
+            }
+        }
+        if (length < 0) {
+            length = count > 0 ? ticks[count - 1] + 1 : 0;
+        }
+    }
+
+    /**
+     * Appends a command to the replay.
+     */
+    private void add(long tick, int command) {
+        if (count == commands.length) {
+            ticks = Arrays.copyOf(ticks, count * 2);
+            commands = Arrays.copyOf(commands, count * 2);
+        }
+        ticks[count] = tick;
+        commands[count] = command;
+        count++;
+    }
+
+    /**
+     * Reads a number written by InputRecorder in 7-bit groups.
+     */
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Loads a fresh game from the recorded configuration and seed.
+     * @return The game, ready for its first tick
+     */
+    public GameObjectManager newGame() {
+        GameObjectManager game = new GameObjectManager();
+        game.loadConfigurations(configPath);
+        game.setSeed(seed);
+        game.makeGameObjects();
+        return game;
+    }
+
+    /**
+     * Plays the whole session on a game from newGame().
+     * @param game The game to play on
+     */
+    public void play(GameObjectManager game) {
+        int next = 0;
+        for (long tick = 0; tick < length; tick++) {
+            while (next < count && ticks[next] == tick) {
+                game.applyInput(commands[next++]);
+            }
+            game.tick();
+        }
+    }
+
+    /**
+     * Get the number of ticks the recorded session ran for.
+     * @return The number of ticks
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Get the seed the recorded game was played with.
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Main method to replay a recording headless and report the time taken and the final state.
+     * @param args The recording to replay
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: ReplayPlayer <recording>");
+            return;
+        }
+        ReplayPlayer replay = new ReplayPlayer(new File(args[0]));
+        GameObjectManager game = replay.newGame();
+
+        long start = System.nanoTime();
+        replay.play(game);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%d ticks in %.3f s (%.0f ticks/s), seed %d%n",
+                replay.getLength(), seconds, replay.getLength() / seconds, replay.getSeed());
+        System.out.printf("Level %d, lives %d, wizard at (%.0f, %.0f)%s%n",
+                game.getCurrentLevel() + 1, game.getLives(), game.getWizard().getX(), game.getWizard().getY(),
+                game.isGameOver() ? ", game over" : "");
+    }
+}
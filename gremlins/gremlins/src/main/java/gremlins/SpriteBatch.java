@@ -0,0 +1,118 @@
+package gremlins;
+
+import processing.core.PApplet;
+import processing.core.PConstants;
+import processing.core.PImage;
+
+import gremlins.setup.SpriteAtlas;
+
+import java.util.Arrays;
+
+/**
+ * Collects the sprites of a frame and draws them together.
+ * On the OpenGL renderers (P2D) every sprite becomes a textured quad from the sprite atlas
+ * and the whole frame is submitted as a single shape, so draw cost stays flat as entity
+ * counts grow. On JAVA2D, which cannot texture shapes, each sprite is drawn with image().
+ */
+public class SpriteBatch {
+
+    private PApplet parent; // The PApplet to draw on
+    private SpriteAtlas atlas; // Texture holding every sprite
+    private boolean batched; // Whether sprites are submitted as one textured shape
+
+    private PImage[] images = new PImage[64]; // Queued sprite images
+    private float[] positions = new float[64 * 2]; // Queued sprite positions, x then y
+    private int count = 0; // Number of queued sprites
+
+    /**
+     * Constructor for SpriteBatch.
+     * @param parent The PApplet to draw on
+     * @param atlas  The atlas holding the sprite images
+     */
+    public SpriteBatch(PApplet parent, SpriteAtlas atlas) {
+        this.parent = parent;
+        this.atlas = atlas;
+        this.batched = parent.g.isGL();
+    }
+
+    /**
+     * Queues a sprite to be drawn when the batch is flushed.
+     * @param img The sprite image
+     * @param x   X-coordinate of the sprite's top left corner
+     * @param y   Y-coordinate of the sprite's top left corner
+     */
+    public void draw(PImage img, float x, float y) {
+        if (img == null) {
+            return;
+        }
+        if (count == images.length) {
+            images = Arrays.copyOf(images, count * 2);
+            positions = Arrays.copyOf(positions, count * 4);
+        }
+        images[count] = img;
+        positions[count * 2] = x;
+        positions[count * 2 + 1] = y;
+        count++;
+    }
+
+    /**
+     * Draws every queued sprite in the order it was queued and empties the batch.
+     */
+    public void flush() {
+        if (count == 0) {
+            return;
+        }
+        if (batched) {
+            flushShape();
+        } else {
+            for (int i = 0; i < count; i++) {
+                parent.image(images[i], positions[i * 2], positions[i * 2 + 1]);
+            }
+        }
+        Arrays.fill(images, 0, count, null);
+        count = 0;
+    }
+
+    /**
+     * Submits every queued sprite as one textured shape of quads.
+     */
+    private void flushShape() {
+        parent.pushStyle();
+        parent.noStroke();
+        parent.textureMode(PConstants.IMAGE);
+        parent.beginShape(PConstants.QUADS);
+        parent.texture(atlas.getImage());
+
+        for (int i = 0; i < count; i++) {
+            int[] region = atlas.getRegion(images[i]);
+            float x = positions[i * 2];
+            float y = positions[i * 2 + 1];
+            if (region == null) {
+                continue; // Not packed; cannot be part of this shape
+            }
+            float u = region[0], v = region[1], w = region[2], h = region[3];
+            parent.vertex(x, y, u, v);
+            parent.vertex(x + w, y, u + w, v);
+            parent.vertex(x + w, y + h, u + w, v + h);
+            parent.vertex(x, y + h, u, v + h);
+        }
+
+        parent.endShape();
+        parent.popStyle();
+
+        // Sprites missing from the atlas are drawn on their own afterwards
+        for (int i = 0; i < count; i++) {
+            if (atlas.getRegion(images[i]) == null) {
+                parent.image(images[i], positions[i * 2], positions[i * 2 + 1]);
+            }
+        }
+    }
+
+    /**
+     * Check whether sprites are submitted as a single textured shape.
+     * @return true on OpenGL renderers, false on JAVA2D
+     */
+    public boolean isBatched() {
+        return batched;
+    }
+}
@@ -0,0 +1,129 @@
+package gremlins;
+
+import processing.core.PApplet;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures startup: the time from the start of the JVM to the first frame drawn.
+ * A single run starts the game, prints the time once draw() has returned for the first
+ * time and exits. With --runs it starts that many fresh JVMs with the same JVM options,
+ * e.g. a class data sharing archive, and reports the fastest, median and slowest.
+ * With --headless no window is opened and the time is taken at the end of the first tick,
+ * with the images decoded and the configuration and first level loaded.
+ *
+ * Usage: StartupBenchmark [--runs N] [--headless]
+ */
+public class StartupBenchmark {
+
+    private static final String RESULT = "startup_ms="; // Prefix of the line a single run prints
+
+    /**
+     * The game, exiting once its first frame has been drawn.
+     */
+    public static class FirstFrame extends App {
+
+        private boolean reported = false; // Whether the first frame has been reported
+
+        /**
+         * Draws a frame; after the first one, reports the startup time and exits.
+         */
+        @Override
+        public void draw() {
+            super.draw();
+            if (!reported) {
+                reported = true;
+                report();
+                exit();
+            }
+        }
+    }
+
+    /**
+     * Starts the game once up to its first tick without a window.
+     */
+    private static void runHeadless() {
+        GameObjectManager game = new GameObjectManager();
+        game.loadAllImages(new PApplet()); // Decoding needs no display
+        game.loadConfigurations();
+        game.makeGameObjects();
+        game.getImages().getAll(); // Every image the first frame draws
+        game.tick();
+    }
+
+    /**
+     * Prints the time since the JVM started.
+     */
+    private static void report() {
+        System.out.println(RESULT + ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    /**
+     * Runs the benchmark in fresh JVMs and prints the spread of their startup times.
+     * @param runs     Number of JVMs to start one after another
+     * @param headless Whether the JVMs stop at the first tick instead of the first frame
+     */
+    private static void measure(int runs, boolean headless) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(StartupBenchmark.class.getName());
+        if (headless) {
+            command.add("--headless");
+        }
+
+        long[] times = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            times[i] = -1;
+            try (BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+                for (String line = out.readLine(); line != null; line = out.readLine()) {
+                    if (line.startsWith(RESULT)) {
+                        times[i] = Long.parseLong(line.substring(RESULT.length()).trim());
+                    }
+                }
+            }
+            if (process.waitFor() != 0 && times[i] < 0) {
+                throw new IOException("Run " + (i + 1) + " failed with exit code " + process.exitValue());
+            }
+            System.out.println("run " + (i + 1) + ": " + times[i] + " ms");
+        }
+        Arrays.sort(times);
+        System.out.println((headless ? "time to first tick" : "time to first frame") + ": min " + times[0]
+                + " ms, median " + times[runs / 2] + " ms, max " + times[runs - 1] + " ms");
+    }
+
+    /**
+     * Main method to run the benchmark.
+     * @param args Optional "--runs N" to start N fresh JVMs and "--headless" to run without a window
+     */
+    public static void main(String[] args) throws Exception {
+        int runs = 0;
+        boolean headless = false;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--runs") && i + 1 < args.length) {
+                runs = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--headless")) {
+                headless = true;
+            }
+        }
+
+        if (runs > 0) {
+            measure(runs, headless);
+        } else if (headless) {
+            runHeadless();
+            report();
+        } else {
+            PApplet.main(FirstFrame.class.getName());
+        }
+    }
+}
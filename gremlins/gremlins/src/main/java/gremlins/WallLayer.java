@@ -0,0 +1,210 @@
+package gremlins;
+
+import processing.core.PApplet;
+import processing.core.PGraphics;
+import processing.core.PImage;
+
+import gremlins.gameObjects.*;
+import gremlins.setup.Constants;
+import gremlins.setup.ImageLoader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Offscreen cache of the static walls of a level, one layer per chunk of the wall grid.
+ * Stone walls and intact brick walls of a chunk are rendered once into a PGraphics layer
+ * when the chunk first comes into view, and each frame draws one image per visible chunk.
+ * Layers of chunks further than Constants.CHUNK_MARGIN chunks outside the view are
+ * released; a frame only visits the chunks in view and those with a cached layer. When a brick wall is hit its tile is erased from its layer and the wall is
+ * drawn on its own until its destruction animation ends.
+ */
+public class WallLayer implements WallListener {
+
+    private static final int CHUNK_PIXELS = TileGrid.CHUNK_SIZE * Constants.SPRITESIZE; // Side of a full chunk layer
+
+    private PApplet parent; // The PApplet the layers are drawn on
+    private ImageLoader images; // The wall images
+    private PGraphics[] layers = new PGraphics[0]; // Cached image of each chunk's walls, or null
+    private int[] cached = new int[0]; // Indices of the chunks with a cached layer
+    private int cachedCount; // Number of chunks in cached
+    private TileGrid grid; // The grid the layers were drawn from
+    private boolean dirty = true; // Whether every layer must be rebuilt
+    private List<Wall> animating = new ArrayList<>(); // Brick walls being destroyed
+
+    /**
+     * Constructor for WallLayer.
+     * @param parent The PApplet the layers are drawn on
+     * @param images The loaded game images
+     */
+    public WallLayer(PApplet parent, ImageLoader images) {
+        this.parent = parent;
+        this.images = images;
+    }
+
+    /**
+     * Draws the cached walls of the chunks in view and queues any brick walls being destroyed.
+     * Expects the camera's offset to be applied to the PApplet already.
+     * @param game  The game world whose walls are drawn
+     * @param batch The sprite batch collecting the frame's sprites
+     */
+    public void draw(GameObjectManager game, SpriteBatch batch) {
+        if (dirty) {
+            reset(game);
+        }
+        Camera camera = game.getCamera();
+        int firstX = camera.getFirstColumn() >> TileGrid.CHUNK_SHIFT;
+        int lastX = camera.getLastColumn() >> TileGrid.CHUNK_SHIFT;
+        int firstY = camera.getFirstRow() >> TileGrid.CHUNK_SHIFT;
+        int lastY = camera.getLastRow() >> TileGrid.CHUNK_SHIFT;
+        int margin = Constants.CHUNK_MARGIN;
+
+        int columns = grid.getChunkColumns();
+        for (int i = 0; i < cachedCount; ) {
+            int cx = cached[i] % columns, cy = cached[i] / columns;
+            if (cx < firstX - margin || cx > lastX + margin || cy < firstY - margin || cy > lastY + margin) {
+                layers[cached[i]] = null; // Far out of view
+                cached[i] = cached[--cachedCount];
+            } else {
+                i++;
+            }
+        }
+
+        for (int cy = Math.max(0, firstY); cy <= Math.min(grid.getChunkRows() - 1, lastY); cy++) {
+            for (int cx = Math.max(0, firstX); cx <= Math.min(columns - 1, lastX); cx++) {
+                int chunk = cy * columns + cx;
+                if (layers[chunk] == null) {
+                    layers[chunk] = render(cx, cy);
+                    cached[cachedCount++] = chunk;
+                }
+                parent.image(layers[chunk], cx * CHUNK_PIXELS, cy * CHUNK_PIXELS);
+            }
+        }
+
+        Compaction.removeDead(animating); // Drop the walls removed since the last frame
+        for (Wall obj : animating) {
+            float x = (float) obj.getX() * Constants.SPRITESIZE, y = (float) obj.getY() * Constants.SPRITESIZE;
+            if (camera.sees(x, y, Constants.SPRITESIZE)) {
+                obj.draw(batch, 1);
+            }
+        }
+    }
+
+    /**
+     * Marks the window cells of the brick walls being destroyed, including those removed
+     * since the last frame, whose tiles must be repainted empty. Call before draw().
+     * @param region The cells to repaint this frame
+     * @param camera The camera whose view is drawn
+     */
+    public void markAnimating(DirtyRegion region, Camera camera) {
+        for (Wall obj : animating) {
+            region.mark((float) obj.getX() * Constants.SPRITESIZE - camera.getLeft(),
+                    (float) obj.getY() * Constants.SPRITESIZE - camera.getTop(), Constants.SPRITESIZE, Constants.SPRITESIZE);
+        }
+    }
+
+    /**
+     * Forgets every layer and collects the brick walls already being destroyed.
+     * @param game The game world whose walls are drawn
+     */
+    private void reset(GameObjectManager game) {
+        grid = game.getWallGrid();
+        layers = new PGraphics[grid.getChunkColumns() * grid.getChunkRows()];
+        cached = new int[layers.length];
+        cachedCount = 0;
+        animating.clear();
+        for (Wall obj : game.getBrickWalls()) {
+            if (obj.isDestroying()) {
+                animating.add(obj);
+            }
+        }
+        dirty = false;
+    }
+
+    /**
+     * Renders the static walls of one chunk into a new layer.
+     * @param chunkX Column of the chunk
+     * @param chunkY Row of the chunk
+     * @return The layer, sized to the part of the chunk inside the level
+     */
+    private PGraphics render(int chunkX, int chunkY) {
+        int left = chunkX * TileGrid.CHUNK_SIZE, top = chunkY * TileGrid.CHUNK_SIZE;
+        int right = Math.min(left + TileGrid.CHUNK_SIZE, grid.getColumns());
+        int bottom = Math.min(top + TileGrid.CHUNK_SIZE, grid.getRows());
+        PGraphics layer = parent.createGraphics((right - left) * Constants.SPRITESIZE, (bottom - top) * Constants.SPRITESIZE);
+
+        layer.beginDraw();
+        layer.clear();
+        for (int y = top; y < bottom; y++) {
+            for (int x = left; x < right; x++) {
+                int tile = grid.get(x, y);
+                if (tile == TileGrid.STONE) {
+                    drawTile(layer, images.get(ImageLoader.STONEWALL), x - left, y - top);
+                } else if (tile == TileGrid.BRICK) {
+                    Wall brick = grid.getBrick(x, y);
+                    if (brick == null || !brick.isDestroying()) {
+                        drawTile(layer, images.get(ImageLoader.BRICKWALL), x - left, y - top);
+                    }
+                }
+            }
+        }
+        layer.endDraw();
+        return layer;
+    }
+
+    /**
+     * Draws one wall image into a layer at a tile position within its chunk.
+     */
+    private static void drawTile(PGraphics layer, PImage image, int x, int y) {
+        layer.image(image, x * Constants.SPRITESIZE, y * Constants.SPRITESIZE);
+    }
+
+    /**
+     * Clears the pixels of one wall tile in its chunk's layer, if the layer is cached.
+     * @param wall The wall whose tile is cleared
+     */
+    private void eraseTile(Wall wall) {
+        int x = (int) wall.getX(), y = (int) wall.getY();
+        PGraphics layer = layers[(y >> TileGrid.CHUNK_SHIFT) * grid.getChunkColumns() + (x >> TileGrid.CHUNK_SHIFT)];
+        if (layer == null) {
+            return; // Rendered without the wall when the chunk comes into view
+        }
+        int density = layer.pixelDensity; // Pixels per sketch unit along each axis
+        int size = Constants.SPRITESIZE * density;
+        int left = (x & (TileGrid.CHUNK_SIZE - 1)) * size;
+        int top = (y & (TileGrid.CHUNK_SIZE - 1)) * size;
+        int right = Math.min(left + size, layer.pixelWidth);
+        int bottom = Math.min(top + size, layer.pixelHeight);
+
+        layer.beginDraw();
+        layer.loadPixels();
+        for (int py = Math.max(top, 0); py < bottom; py++) {
+            for (int px = Math.max(left, 0); px < right; px++) {
+                layer.pixels[py * layer.pixelWidth + px] = 0;
+            }
+        }
+        layer.updatePixels();
+        layer.endDraw();
+    }
+
+    /**
+     * Rebuilds the layers on the next draw.
+     */
+    @Override
+    public void wallsReset() {
+        dirty = true;
+    }
+
+    /**
+     * Moves a hit brick wall out of its layer so its animation is drawn every frame.
+     * @param wall The brick wall being destroyed
+     */
+    @Override
+    public void wallDestroyed(Wall wall) {
+        if (dirty) {
+            return; // The rebuild will pick it up
+        }
+        eraseTile(wall);
+        animating.add(wall);
+    }
+}
@@ -0,0 +1,52 @@
+package gremlins.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Loading and decoding of one image.
+ */
+@Name("gremlins.AssetLoad")
+@Label("Asset Load")
+@Category({"Gremlins", "Loading"})
+@Description("Loading and decoding of one image")
+public class AssetLoadEvent extends Event {
+
+    @Label("Asset")
+    @Description("File name of the image")
+    String asset;
+
+    @Label("Width")
+    int width;
+
+    @Label("Height")
+    int height;
+
+    /**
+     * Creates and begins an event.
+     */
+    static AssetLoadEvent start() {
+        AssetLoadEvent event = new AssetLoadEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it if it is being recorded.
+     * @param asset  File name of the image
+     * @param width  Width of the decoded image in pixels, 0 if it failed to load
+     * @param height Height of the decoded image in pixels, 0 if it failed to load
+     */
+    public void finish(String asset, int width, int height) {
+        end();
+        if (shouldCommit()) {
+            this.asset = asset;
+            this.width = width;
+            this.height = height;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package gremlins.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One pass resolving projectile hits on walls and gremlins.
+ */
+@Name("gremlins.Collision")
+@Label("Collision Pass")
+@Category({"Gremlins", "Game Loop"})
+@Description("One pass resolving projectile hits on walls and gremlins")
+@StackTrace(false)
+public class CollisionEvent extends Event {
+
+    @Label("Level")
+    @Description("Index of the level being played, counting from 0")
+    int level;
+
+    @Label("Projectiles")
+    @Description("Projectiles checked")
+    int projectiles;
+
+    @Label("Gremlins")
+    @Description("Gremlins checked against each projectile")
+    int gremlins;
+
+    @Label("Hits")
+    @Description("Projectiles removed after hitting a wall or gremlin")
+    int hits;
+
+    private static final EventType TYPE = EventType.getEventType(CollisionEvent.class); // Tells whether a recording wants the event
+
+    /**
+     * Creates and begins an event, unless no recording has the event enabled.
+     * @return The event, or null if it is not being recorded
+     */
+    static CollisionEvent start() {
+        if (!TYPE.isEnabled()) {
+            return null; // Nothing allocated per tick or frame while not recording
+        }
+        CollisionEvent event = new CollisionEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it if it is being recorded.
+     * @param level       Index of the level being played
+     * @param projectiles Number of projectiles checked
+     * @param gremlins    Number of gremlins checked against each projectile
+     * @param hits        Number of projectiles removed
+     */
+    public void finish(int level, int projectiles, int gremlins, int hits) {
+        end();
+        if (shouldCommit()) {
+            this.level = level;
+            this.projectiles = projectiles;
+            this.gremlins = gremlins;
+            this.hits = hits;
+            commit();
+        }
+    }
+}
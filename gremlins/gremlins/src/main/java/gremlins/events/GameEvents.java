@@ -0,0 +1,72 @@
+package gremlins.events;
+
+/**
+ * Entry point for the game's Java Flight Recorder events.
+ * The jdk.jfr API ships with Java 11 and with Java 8 from update 262; on older runtimes
+ * every method here returns null and no event class is ever loaded. Each method begins an
+ * event, and the caller finishes it with the counts it wants to record, so a recording
+ * shows every tick, frame, collision pass, level load and asset load next to the GC and
+ * JIT events in JDK Mission Control.
+ */
+public final class GameEvents {
+
+    public static final boolean AVAILABLE = isAvailable(); // Whether the runtime has Flight Recorder
+
+    /**
+     * GameEvents only has static methods.
+     */
+    private GameEvents() {
+    }
+
+    /**
+     * Check whether the jdk.jfr API can be loaded.
+     */
+    private static boolean isAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, GameEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Begins timing a tick.
+     * @return The event, or null without Flight Recorder or while the event is not recorded
+     */
+    public static TickEvent tick() {
+        return AVAILABLE ? TickEvent.start() : null;
+    }
+
+    /**
+     * Begins timing the drawing of a frame.
+     * @return The event, or null without Flight Recorder or while the event is not recorded
+     */
+    public static RenderEvent render() {
+        return AVAILABLE ? RenderEvent.start() : null;
+    }
+
+    /**
+     * Begins timing a collision pass.
+     * @return The event, or null without Flight Recorder or while the event is not recorded
+     */
+    public static CollisionEvent collision() {
+        return AVAILABLE ? CollisionEvent.start() : null;
+    }
+
+    /**
+     * Begins timing the building of a level.
+     * @return The event, or null without Flight Recorder
+     */
+    public static LevelLoadEvent levelLoad() {
+        return AVAILABLE ? LevelLoadEvent.start() : null;
+    }
+
+    /**
+     * Begins timing the loading of an image.
+     * @return The event, or null without Flight Recorder
+     */
+    public static AssetLoadEvent assetLoad() {
+        return AVAILABLE ? AssetLoadEvent.start() : null;
+    }
+}
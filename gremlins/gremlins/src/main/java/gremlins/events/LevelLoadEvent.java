@@ -0,0 +1,76 @@
+package gremlins.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Building of the objects of one level from its layout.
+ */
+@Name("gremlins.LevelLoad")
+@Label("Level Load")
+@Category({"Gremlins", "Loading"})
+@Description("Building of the objects of one level from its layout")
+public class LevelLoadEvent extends Event {
+
+    @Label("Level")
+    @Description("Index of the level, counting from 0")
+    int level;
+
+    @Label("Prefetched")
+    @Description("Whether the level was built in the background while the previous one was played")
+    boolean prefetched;
+
+    @Label("Columns")
+    int columns;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Stone Walls")
+    @Description("Stone walls in the chunks loaded around the wizard")
+    int stoneWalls;
+
+    @Label("Brick Walls")
+    @Description("Brick walls in the chunks loaded around the wizard")
+    int brickWalls;
+
+    @Label("Gremlins")
+    int gremlins;
+
+    /**
+     * Creates and begins an event.
+     */
+    static LevelLoadEvent start() {
+        LevelLoadEvent event = new LevelLoadEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it if it is being recorded.
+     * @param level      Index of the level
+     * @param prefetched Whether the level was built in the background
+     * @param columns    Width of the level in tiles
+     * @param rows       Height of the level in tiles
+     * @param stoneWalls Number of stone walls loaded around the wizard
+     * @param brickWalls Number of brick walls loaded around the wizard
+     * @param gremlins   Number of gremlins
+     */
+    public void finish(int level, boolean prefetched, int columns, int rows,
+                       int stoneWalls, int brickWalls, int gremlins) {
+        end();
+        if (shouldCommit()) {
+            this.level = level;
+            this.prefetched = prefetched;
+            this.columns = columns;
+            this.rows = rows;
+            this.stoneWalls = stoneWalls;
+            this.brickWalls = brickWalls;
+            this.gremlins = gremlins;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package gremlins.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Drawing of one frame.
+ */
+@Name("gremlins.Render")
+@Label("Render")
+@Category({"Gremlins", "Game Loop"})
+@Description("Drawing of one frame")
+@StackTrace(false)
+public class RenderEvent extends Event {
+
+    @Label("Level")
+    @Description("Index of the level being played, counting from 0")
+    int level;
+
+    @Label("Gremlins")
+    int gremlins;
+
+    @Label("Projectiles")
+    int projectiles;
+
+    @Label("Brick Walls")
+    int brickWalls;
+
+    private static final EventType TYPE = EventType.getEventType(RenderEvent.class); // Tells whether a recording wants the event
+
+    /**
+     * Creates and begins an event, unless no recording has the event enabled.
+     * @return The event, or null if it is not being recorded
+     */
+    static RenderEvent start() {
+        if (!TYPE.isEnabled()) {
+            return null; // Nothing allocated per tick or frame while not recording
+        }
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it if it is being recorded.
+     * @param level       Index of the level being drawn
+     * @param gremlins    Number of gremlins
+     * @param projectiles Number of projectiles in flight
+     * @param brickWalls  Number of brick walls left
+     */
+    public void finish(int level, int gremlins, int projectiles, int brickWalls) {
+        end();
+        if (shouldCommit()) {
+            this.level = level;
+            this.gremlins = gremlins;
+            this.projectiles = projectiles;
+            this.brickWalls = brickWalls;
+            commit();
+        }
+    }
+}
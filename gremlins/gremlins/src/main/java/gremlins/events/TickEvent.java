@@ -0,0 +1,72 @@
+package gremlins.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One fixed-length game logic tick.
+ */
+@Name("gremlins.Tick")
+@Label("Tick")
+@Category({"Gremlins", "Game Loop"})
+@Description("One fixed-length game logic tick")
+@StackTrace(false)
+public class TickEvent extends Event {
+
+    @Label("Level")
+    @Description("Index of the level being played, counting from 0")
+    int level;
+
+    @Label("Tick")
+    @Description("Number of ticks run, including this one")
+    long tick;
+
+    @Label("Gremlins")
+    int gremlins;
+
+    @Label("Projectiles")
+    int projectiles;
+
+    @Label("Brick Walls")
+    int brickWalls;
+
+    private static final EventType TYPE = EventType.getEventType(TickEvent.class); // Tells whether a recording wants the event
+
+    /**
+     * Creates and begins an event, unless no recording has the event enabled.
+     * @return The event, or null if it is not being recorded
+     */
+    static TickEvent start() {
+        if (!TYPE.isEnabled()) {
+            return null; // Nothing allocated per tick or frame while not recording
+        }
+        TickEvent event = new TickEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it if it is being recorded.
+     * @param level       Index of the level being played
+     * @param tick        Number of ticks run, including this one
+     * @param gremlins    Number of gremlins
+     * @param projectiles Number of projectiles in flight
+     * @param brickWalls  Number of brick walls left
+     */
+    public void finish(int level, long tick, int gremlins, int projectiles, int brickWalls) {
+        end();
+        if (shouldCommit()) {
+            this.level = level;
+            this.tick = tick;
+            this.gremlins = gremlins;
+            this.projectiles = projectiles;
+            this.brickWalls = brickWalls;
+            commit();
+        }
+    }
+}
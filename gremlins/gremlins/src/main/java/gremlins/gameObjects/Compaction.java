@@ -0,0 +1,46 @@
+package gremlins.gameObjects;
+
+import java.util.List;
+
+/**
+ * In-place removal of dead objects from the per-tick object lists.
+ * Cleanup marks objects dead as it finds them and then calls removeDead() once, so a
+ * tick's removals cost a single pass over the list however many objects died, and no
+ * temporary list is allocated. EntityStore.removeDead() does the same for the
+ * struct-of-arrays entities.
+ */
+public final class Compaction {
+
+    /**
+     * Compaction only has static methods.
+     */
+    private Compaction() {
+    }
+
+    /**
+     * Removes every dead object from a list, keeping the others in order.
+     * Live objects are shifted down over the dead ones and the tail is then cut off
+     * from the end, which is constant time per element for an ArrayList.
+     *
+     * @param list The list to compact
+     * @param <T>  The type of object in the list
+     * @return The number of objects removed
+     */
+    public static <T extends Drawable> int removeDead(List<T> list) {
+        int size = list.size();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            T obj = list.get(i);
+            if (!obj.getIsDead()) {
+                if (kept != i) {
+                    list.set(kept, obj);
+                }
+                kept++;
+            }
+        }
+        for (int i = size - 1; i >= kept; i--) {
+            list.remove(i);
+        }
+        return size - kept;
+    }
+}
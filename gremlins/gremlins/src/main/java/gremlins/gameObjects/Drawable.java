@@ -1,5 +1,7 @@
 package gremlins.gameObjects;
 
+import gremlins.SpriteBatch;
+
 import processing.core.PApplet;
 
 /**
@@ -15,16 +17,18 @@ public interface Drawable {
     void draw(PApplet p);
 
     /**
-     * Checks if the object is dead or no longer active.
+     * Queues the object's sprite in a batch, part-way between its previous and current
+     * tick positions. Objects that do not move between ticks use their current position.
      *
-     * @return true if the object is dead, false otherwise
+     * @param batch The sprite batch collecting the frame's sprites
+     * @param alpha Fraction of a tick elapsed since the last update, from 0 to 1
      */
-    boolean getIsDead();
+    void draw(SpriteBatch batch, float alpha);
 
     /**
-     * Calculates the next coordinates of the object based on its internal state.
+     * Checks if the object is dead or no longer active.
      *
-     * @return Array containing the next x and y coordinates of the object
+     * @return true if the object is dead, false otherwise
      */
-    double[] nextCoordinates();
+    boolean getIsDead();
 }
@@ -0,0 +1,409 @@
+package gremlins.gameObjects;
+
+import gremlins.setup.Constants;
+import gremlins.setup.Direction;
+
+import java.util.Arrays;
+
+/**
+ * Struct-of-arrays storage for moving entities such as gremlins and projectiles.
+ * Each entity is an index into parallel primitive arrays rather than a heap object,
+ * so per-tick updates walk contiguous memory. Removing an entity moves the last
+ * entity into its slot, so indices are not stable across removals.
+ * Positions are fixed-point integers in Constants.TILE_UNITS per tile, so movement
+ * is pure integer arithmetic and position comparisons are exact.
+ */
+public class EntityStore {
+
+    // Entity states
+    public static final int ALIVE = 0;
+    public static final int DEAD = 1;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private int speed; // Units every entity moves per tick
+    private int count = 0; // Number of entities in the store
+
+    // Parallel per-entity arrays, valid from 0 to count - 1
+    private int[] x; // Fixed-point x-coordinate
+    private int[] y; // Fixed-point y-coordinate
+    private int[] prevX; // Fixed-point x-coordinate at the start of the last tick, for interpolated drawing
+    private int[] prevY; // Fixed-point y-coordinate at the start of the last tick
+    private int[] direction; // Direction ordinal
+    private int[] state; // ALIVE or DEAD
+    private int[] sprite; // Sprite id, see ImageLoader
+
+    /**
+     * Constructs an empty store.
+     *
+     * @param capacity Number of entities to allocate room for; the store grows as needed
+     * @param speed    Units every entity moves per tick
+     */
+    public EntityStore(int capacity, int speed) {
+        this.speed = speed;
+        allocate(Math.max(capacity, 1));
+    }
+
+    /**
+     * Converts a distance in pixels to fixed-point units, rounded to the nearest unit.
+     *
+     * @param pixels The distance in pixels
+     * @return The distance in units
+     */
+    public static int toUnits(double pixels) {
+        return (int) Math.round(pixels * Constants.SUBPIXELS);
+    }
+
+    /**
+     * Resizes every per-entity array to the given capacity, keeping existing entities.
+     */
+    private void allocate(int capacity) {
+        this.x = x == null ? new int[capacity] : Arrays.copyOf(x, capacity);
+        this.y = y == null ? new int[capacity] : Arrays.copyOf(y, capacity);
+        this.prevX = prevX == null ? new int[capacity] : Arrays.copyOf(prevX, capacity);
+        this.prevY = prevY == null ? new int[capacity] : Arrays.copyOf(prevY, capacity);
+        this.direction = direction == null ? new int[capacity] : Arrays.copyOf(direction, capacity);
+        this.state = state == null ? new int[capacity] : Arrays.copyOf(state, capacity);
+        this.sprite = sprite == null ? new int[capacity] : Arrays.copyOf(sprite, capacity);
+    }
+
+    /**
+     * Adds a live entity to the store.
+     *
+     * @param x         Initial fixed-point x-coordinate
+     * @param y         Initial fixed-point y-coordinate
+     * @param direction Initial direction
+     * @param sprite    Sprite id, see ImageLoader
+     * @return The index of the new entity
+     */
+    public int add(int x, int y, Direction direction, int sprite) {
+        if (count == this.x.length) {
+            allocate(count * 2);
+        }
+        int i = count++;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.prevX[i] = x;
+        this.prevY[i] = y;
+        this.direction[i] = direction.ordinal();
+        this.state[i] = ALIVE;
+        this.sprite[i] = sprite;
+        return i;
+    }
+
+    /**
+     * Removes an entity by moving the last entity into its slot.
+     *
+     * @param i Index of the entity to remove
+     */
+    public void remove(int i) {
+        int last = --count;
+        if (i != last) {
+            x[i] = x[last];
+            y[i] = y[last];
+            prevX[i] = prevX[last];
+            prevY[i] = prevY[last];
+            direction[i] = direction[last];
+            state[i] = state[last];
+            sprite[i] = sprite[last];
+        }
+    }
+
+    /**
+     * Removes every dead entity, keeping the others in order.
+     * Live entities are shifted down over the dead ones in a single pass.
+     * Stores whose dead entities come back, like respawning gremlins, must not call this.
+     *
+     * @return The number of entities removed
+     */
+    public int removeDead() {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (state[i] == DEAD) {
+                continue;
+            }
+            if (kept != i) {
+                x[kept] = x[i];
+                y[kept] = y[i];
+                prevX[kept] = prevX[i];
+                prevY[kept] = prevY[i];
+                direction[kept] = direction[i];
+                state[kept] = state[i];
+                sprite[kept] = sprite[i];
+            }
+            kept++;
+        }
+        int removed = count - kept;
+        count = kept;
+        return removed;
+    }
+
+    /**
+     * Removes every entity.
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * Get the number of entities in the store.
+     *
+     * @return The number of entities
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Get the current fixed-point x-coordinate of an entity.
+     *
+     * @param i Index of the entity
+     * @return The x-coordinate in units
+     */
+    public int getX(int i) {
+        return x[i];
+    }
+
+    /**
+     * Get the current fixed-point y-coordinate of an entity.
+     *
+     * @param i Index of the entity
+     * @return The y-coordinate in units
+     */
+    public int getY(int i) {
+        return y[i];
+    }
+
+    /**
+     * Get the direction an entity is moving in.
+     *
+     * @param i Index of the entity
+     * @return The direction
+     */
+    public Direction getDirection(int i) {
+        return DIRECTIONS[direction[i]];
+    }
+
+    /**
+     * Set the direction an entity is moving in.
+     *
+     * @param i         Index of the entity
+     * @param direction The new direction
+     */
+    public void setDirection(int i, Direction direction) {
+        this.direction[i] = direction.ordinal();
+    }
+
+    /**
+     * Check if an entity is dead.
+     *
+     * @param i Index of the entity
+     * @return true if the entity is dead, false otherwise
+     */
+    public boolean isDead(int i) {
+        return state[i] == DEAD;
+    }
+
+    /**
+     * Mark an entity as dead or alive.
+     *
+     * @param i    Index of the entity
+     * @param dead true to mark the entity dead, false to revive it
+     */
+    public void setDead(int i, boolean dead) {
+        state[i] = dead ? DEAD : ALIVE;
+    }
+
+    /**
+     * Get the sprite id of an entity.
+     *
+     * @param i Index of the entity
+     * @return The sprite id, see ImageLoader
+     */
+    public int getSprite(int i) {
+        return sprite[i];
+    }
+
+    /**
+     * Get the distance every entity moves per tick.
+     *
+     * @return The speed in units per tick
+     */
+    public int getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Set the distance every entity moves per tick.
+     *
+     * @param speed New speed in units per tick
+     */
+    public void setSpeed(int speed) {
+        this.speed = speed;
+    }
+
+    /**
+     * Calculate the next x-coordinate of an entity based on its current direction.
+     *
+     * @param i Index of the entity
+     * @return The next x-coordinate in units
+     */
+    public int nextX(int i) {
+        switch (DIRECTIONS[direction[i]]) {
+            case LEFT:
+                return x[i] - speed;
+            case RIGHT:
+                return x[i] + speed;
+            default:
+                return x[i];
+        }
+    }
+
+    /**
+     * Calculate the next y-coordinate of an entity based on its current direction.
+     *
+     * @param i Index of the entity
+     * @return The next y-coordinate in units
+     */
+    public int nextY(int i) {
+        switch (DIRECTIONS[direction[i]]) {
+            case UP:
+                return y[i] - speed;
+            case DOWN:
+                return y[i] + speed;
+            default:
+                return y[i];
+        }
+    }
+
+    /**
+     * Move an entity one tick along its current direction.
+     *
+     * @param i Index of the entity
+     */
+    public void move(int i) {
+        int nextX = nextX(i);
+        int nextY = nextY(i);
+        prevX[i] = x[i];
+        prevY[i] = y[i];
+        x[i] = nextX;
+        y[i] = nextY;
+    }
+
+    /**
+     * Move an entity one tick along its current direction, stopping early at the next tile
+     * boundary so entities that steer tile by tile always come to rest on the grid.
+     *
+     * @param i Index of the entity
+     */
+    public void moveToTile(int i) {
+        stay(i);
+        advanceToTile(i, speed);
+    }
+
+    /**
+     * Start a tick for an entity: it is drawn from where it is now, whether or not it then
+     * moves, so an entity that skips ticks does not replay its last move when drawn.
+     *
+     * @param i Index of the entity
+     */
+    public void stay(int i) {
+        prevX[i] = x[i];
+        prevY[i] = y[i];
+    }
+
+    /**
+     * Move an entity up to a distance along its current direction, stopping early at the
+     * next tile boundary, without starting a new tick. A move spanning several ticks can be
+     * made of several of these, turning at each tile in between.
+     *
+     * @param i        Index of the entity
+     * @param distance Most units to move
+     * @return The units moved, more than 0 if distance is
+     */
+    public int advanceToTile(int i, int distance) {
+        int moved;
+        switch (DIRECTIONS[direction[i]]) {
+            case LEFT:
+                moved = Math.min(distance, untilTile(x[i], -1));
+                x[i] -= moved;
+                break;
+            case RIGHT:
+                moved = Math.min(distance, untilTile(x[i], 1));
+                x[i] += moved;
+                break;
+            case UP:
+                moved = Math.min(distance, untilTile(y[i], -1));
+                y[i] -= moved;
+                break;
+            default:
+                moved = Math.min(distance, untilTile(y[i], 1));
+                y[i] += moved;
+                break;
+        }
+        return moved;
+    }
+
+    /**
+     * Get the distance from a coordinate to the next tile boundary in a direction.
+     *
+     * @param units Fixed-point coordinate
+     * @param sign  -1 towards lower coordinates, 1 towards higher ones
+     * @return The distance in units, a whole tile if already on a boundary
+     */
+    private static int untilTile(int units, int sign) {
+        int offset = Math.floorMod(units, Constants.TILE_UNITS);
+        if (offset == 0) {
+            return Constants.TILE_UNITS;
+        }
+        return sign < 0 ? offset : Constants.TILE_UNITS - offset;
+    }
+
+    /**
+     * Move every entity one tick along its current direction.
+     */
+    public void moveAll() {
+        for (int i = 0; i < count; i++) {
+            move(i);
+        }
+    }
+
+    /**
+     * Check whether an entity is at the given position, to within half a step.
+     * An exact comparison would miss entities passing by when their step does not
+     * divide the tile size.
+     *
+     * @param i Index of the entity
+     * @param x The fixed-point x-coordinate to compare against
+     * @param y The fixed-point y-coordinate to compare against
+     * @return true if the entity is at that position, false otherwise
+     */
+    public boolean isAt(int i, int x, int y) {
+        // Doubled so half a step stays an exact integer comparison
+        int dx = (this.x[i] - x) * 2;
+        int dy = (this.y[i] - y) * 2;
+        return dx >= -speed && dx < speed && dy >= -speed && dy < speed;
+    }
+
+    /**
+     * Get the pixel x-coordinate to draw an entity at, between its previous and current position.
+     *
+     * @param i     Index of the entity
+     * @param alpha Fraction of a tick elapsed since the last update
+     * @return The x-coordinate in pixels
+     */
+    public float drawX(int i, float alpha) {
+        return (prevX[i] + (x[i] - prevX[i]) * alpha) / Constants.SUBPIXELS;
+    }
+
+    /**
+     * Get the pixel y-coordinate to draw an entity at, between its previous and current position.
+     *
+     * @param i     Index of the entity
+     * @param alpha Fraction of a tick elapsed since the last update
+     * @return The y-coordinate in pixels
+     */
+    public float drawY(int i, float alpha) {
+        return (prevY[i] + (y[i] - prevY[i]) * alpha) / Constants.SUBPIXELS;
+    }
+}
@@ -0,0 +1,252 @@
+package gremlins.gameObjects;
+
+import gremlins.setup.Direction;
+
+import java.util.Arrays;
+
+/**
+ * Breadth-first distance map over the wall grid, measured from a target tile.
+ * Gremlins read it to step towards the wizard in constant time instead of retrying
+ * random directions against the walls. A full search only runs when the target moves
+ * to another tile, the bounds change or invalidate() is called. A removed wall is folded
+ * in by opened(), which relaxes only the tiles whose paths now run through the opening.
+ * The search can be bounded to a rectangle of tiles, so on large levels it only covers
+ * the area around the wizard; tiles outside the bounds are unreachable. The distances are
+ * only stored for the bounds, so memory follows the active area, not the level size.
+ */
+public class FlowField {
+
+    public static final int UNREACHABLE = Integer.MAX_VALUE; // Distance of walls and cut-off tiles
+
+    // Neighbour directions in the order ties are broken
+    private static final Direction[] DIRECTIONS = {Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT};
+
+    private final TileGrid grid; // Walls the distances route around
+    private final int columns;
+    private final int rows;
+
+    private int[] distance = new int[0]; // Steps to the target per tile of the bounds, row-major
+    private int[] queue = new int[0]; // BFS queue of cell indices, reused between searches
+
+    // Inclusive rectangle of tiles the search covers
+    private int minX, minY, maxX, maxY;
+    private int width; // Columns in the bounds, the row length of distance
+    private int cells; // Tiles in the bounds, the used part of distance
+
+    private int targetX = -1; // Column of the tile the distances lead to
+    private int targetY = -1; // Row of the tile the distances lead to
+    private boolean dirty = true; // Whether the walls changed since the last recompute
+
+    /**
+     * Constructs a flow field over a wall grid.
+     *
+     * @param grid The walls of the level
+     */
+    public FlowField(TileGrid grid) {
+        this.grid = grid;
+        this.columns = grid.getColumns();
+        this.rows = grid.getRows();
+        setBounds(0, 0, columns - 1, rows - 1);
+    }
+
+    /**
+     * Limits the search to a rectangle of tiles and marks the distances as stale.
+     * The storage grows to the largest bounds set so far and is reused after that.
+     *
+     * @param minX First column searched
+     * @param minY First row searched
+     * @param maxX Last column searched
+     * @param maxY Last row searched
+     */
+    public void setBounds(int minX, int minY, int maxX, int maxY) {
+        this.minX = Math.max(0, minX);
+        this.minY = Math.max(0, minY);
+        this.maxX = Math.min(columns - 1, maxX);
+        this.maxY = Math.min(rows - 1, maxY);
+        this.width = Math.max(0, this.maxX - this.minX + 1);
+        this.cells = width * Math.max(0, this.maxY - this.minY + 1);
+        if (distance.length < cells) {
+            distance = new int[cells];
+            queue = new int[cells];
+        }
+        Arrays.fill(distance, 0, cells, UNREACHABLE);
+        this.dirty = true;
+    }
+
+    /**
+     * Marks the distances as stale, e.g. after a brick wall has been removed.
+     */
+    public void invalidate() {
+        this.dirty = true;
+    }
+
+    /**
+     * Updates the distances after the wall on a tile has been removed.
+     * Opening a tile can only shorten paths, so instead of a new search the opened tile
+     * takes its best neighbour's distance plus one, and the shorter paths spread out from
+     * it as far as they improve on the current distances.
+     *
+     * @param x Column of the opened tile
+     * @param y Row of the opened tile
+     */
+    public void opened(int x, int y) {
+        if (dirty || x < minX || x > maxX || y < minY || y > maxY || !isOpen(x, y)) {
+            return; // Stale distances are searched again anyway, and tiles out of bounds stay cut off
+        }
+        int best = UNREACHABLE;
+        for (Direction direction : DIRECTIONS) {
+            int nx = x + dx(direction), ny = y + dy(direction);
+            if (nx >= minX && nx <= maxX && ny >= minY && ny <= maxY) {
+                best = Math.min(best, getDistance(nx, ny));
+            }
+        }
+        if (best == UNREACHABLE) {
+            return; // Still cut off from the target
+        }
+        int cell = (y - minY) * width + (x - minX);
+        distance[cell] = best + 1;
+        queue[0] = cell;
+        spread(1);
+    }
+
+    /**
+     * Points the field at a target tile, recomputing only if the target or the walls changed.
+     *
+     * @param x Column of the target tile
+     * @param y Row of the target tile
+     */
+    public void update(int x, int y) {
+        if (!dirty && x == targetX && y == targetY) {
+            return;
+        }
+        targetX = x;
+        targetY = y;
+        dirty = false;
+        recompute();
+    }
+
+    /**
+     * Fills the distance map with a breadth-first search from the target tile.
+     */
+    private void recompute() {
+        Arrays.fill(distance, 0, cells, UNREACHABLE);
+        if (!isOpen(targetX, targetY) || targetX < minX || targetX > maxX || targetY < minY || targetY > maxY) {
+            return;
+        }
+
+        int start = (targetY - minY) * width + (targetX - minX);
+        distance[start] = 0;
+        queue[0] = start;
+        spread(1);
+    }
+
+    /**
+     * Runs the breadth-first search from the cells queued so far, lowering every open
+     * neighbour whose distance the path through the current cell improves on.
+     * A cell is only queued when its distance drops, so each cell is queued at most once.
+     *
+     * @param tail Number of cells already queued
+     */
+    private void spread(int tail) {
+        int head = 0;
+        while (head < tail) {
+            int cell = queue[head++];
+            int x = minX + cell % width;
+            int y = minY + cell / width;
+            int next = distance[cell] + 1;
+
+            if (x > minX) {
+                tail = visit(cell - 1, x - 1, y, next, tail);
+            }
+            if (x < maxX) {
+                tail = visit(cell + 1, x + 1, y, next, tail);
+            }
+            if (y > minY) {
+                tail = visit(cell - width, x, y - 1, next, tail);
+            }
+            if (y < maxY) {
+                tail = visit(cell + width, x, y + 1, next, tail);
+            }
+        }
+    }
+
+    /**
+     * Queues a neighbouring cell if it is open and the new distance is shorter.
+     *
+     * @return The new tail of the queue
+     */
+    private int visit(int cell, int x, int y, int dist, int tail) {
+        if (dist < distance[cell] && grid.get(x, y) == TileGrid.EMPTY) {
+            distance[cell] = dist;
+            queue[tail++] = cell;
+        }
+        return tail;
+    }
+
+    /**
+     * Check whether a tile can be walked on.
+     *
+     * @param x Column of the tile
+     * @param y Row of the tile
+     * @return true if the tile is inside the grid and holds no wall
+     */
+    public boolean isOpen(int x, int y) {
+        return grid.inBounds(x, y) && grid.get(x, y) == TileGrid.EMPTY;
+    }
+
+    /**
+     * Get the number of steps from a tile to the target.
+     *
+     * @param x Column of the tile
+     * @param y Row of the tile
+     * @return The distance, or UNREACHABLE for walls, tiles cut off from the target and tiles out of bounds
+     */
+    public int getDistance(int x, int y) {
+        if (x < minX || x > maxX || y < minY || y > maxY) {
+            return UNREACHABLE;
+        }
+        return distance[(y - minY) * width + (x - minX)];
+    }
+
+    /**
+     * Get the direction leading one tile closer to the target.
+     * The current direction is kept when it is one of the best choices.
+     *
+     * @param x       Column of the current tile
+     * @param y       Row of the current tile
+     * @param current The direction currently travelled in, may be null
+     * @return The direction to take, or null if no neighbour is closer to the target
+     */
+    public Direction towardsTarget(int x, int y, Direction current) {
+        int best = getDistance(x, y);
+        Direction choice = null;
+        for (Direction direction : DIRECTIONS) {
+            int d = getDistance(x + dx(direction), y + dy(direction));
+            if (d < best || (d == best && choice != null && direction == current)) {
+                best = d;
+                choice = direction;
+            }
+        }
+        return choice;
+    }
+
+    /**
+     * Get the column offset of one step in a direction.
+     *
+     * @param direction The direction of the step
+     * @return -1, 0 or 1
+     */
+    public static int dx(Direction direction) {
+        return direction == Direction.LEFT ? -1 : direction == Direction.RIGHT ? 1 : 0;
+    }
+
+    /**
+     * Get the row offset of one step in a direction.
+     *
+     * @param direction The direction of the step
+     * @return -1, 0 or 1
+     */
+    public static int dy(Direction direction) {
+        return direction == Direction.UP ? -1 : direction == Direction.DOWN ? 1 : 0;
+    }
+}
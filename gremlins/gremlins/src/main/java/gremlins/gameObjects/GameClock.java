@@ -0,0 +1,16 @@
+package gremlins.gameObjects;
+
+/**
+ * Source of the current time for timed game behaviour such as wall destruction animations.
+ * GameObjectManager uses game time derived from the tick count by default, so a session
+ * behaves the same no matter how fast it is simulated; another clock can be injected.
+ */
+public interface GameClock {
+
+    /**
+     * Get the current time.
+     *
+     * @return The time in milliseconds
+     */
+    long millis();
+}
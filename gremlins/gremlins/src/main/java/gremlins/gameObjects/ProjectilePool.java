@@ -0,0 +1,60 @@
+package gremlins.gameObjects;
+
+import gremlins.setup.Direction;
+
+/**
+ * Fixed-capacity store for shots such as the wizard's fireballs and gremlin slime.
+ * Every slot is allocated up front and never grows, so firing and removing shots
+ * allocates nothing. Acquiring a slot overwrites all of its fields, so nothing of
+ * the shot that used it before carries over.
+ */
+public class ProjectilePool extends EntityStore {
+
+    private final int capacity; // Most shots that can be in flight at once
+
+    /**
+     * Constructs an empty pool with every slot preallocated.
+     *
+     * @param capacity Most shots that can be in flight at once
+     * @param speed    Units every shot moves per tick
+     */
+    public ProjectilePool(int capacity, int speed) {
+        super(capacity, speed);
+        this.capacity = Math.max(capacity, 1);
+    }
+
+    /**
+     * Takes a free slot for a new live shot, unless the pool is full.
+     *
+     * @param x         Initial fixed-point x-coordinate
+     * @param y         Initial fixed-point y-coordinate
+     * @param direction Direction of flight
+     * @param sprite    Sprite id, see ImageLoader
+     * @return The index of the shot, or -1 if every slot is in use
+     */
+    public int acquire(int x, int y, Direction direction, int sprite) {
+        if (size() >= capacity) {
+            return -1;
+        }
+        return super.add(x, y, direction, sprite);
+    }
+
+    /**
+     * Same as acquire(): a full pool does not grow.
+     *
+     * @return The index of the shot, or -1 if every slot is in use
+     */
+    @Override
+    public int add(int x, int y, Direction direction, int sprite) {
+        return acquire(x, y, direction, sprite);
+    }
+
+    /**
+     * Get the number of slots in the pool.
+     *
+     * @return The most shots that can be in flight at once
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
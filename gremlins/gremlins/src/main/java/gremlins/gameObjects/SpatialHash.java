@@ -0,0 +1,105 @@
+package gremlins.gameObjects;
+
+/**
+ * Uniform spatial hash of the entities of an EntityStore, keyed by the tile each one's
+ * position falls in. The table is rebuilt from scratch whenever the entities have moved;
+ * building is a single pass that chains entities into buckets through a parallel index
+ * array, and the bucket count follows the number of entities rather than the map size.
+ * Looking up a tile only visits the entities hashed to its bucket, so hit tests cost the
+ * local density instead of the whole population.
+ *
+ * <pre>
+ * for (int i = hash.first(tileX, tileY); i >= 0; i = hash.next(i)) { ... }
+ * </pre>
+ */
+public class SpatialHash {
+
+    private static final int EMPTY = -1; // End of a bucket chain
+
+    private int[] heads = new int[16]; // First entity of each bucket, EMPTY if none
+    private int[] next = new int[16]; // Following entity in the same bucket, EMPTY at the end
+    private int[] tileX = new int[16]; // Column of each entity when the hash was built
+    private int[] tileY = new int[16]; // Row of each entity when the hash was built
+    private int mask = 15; // Bucket count minus one; the bucket count is a power of two
+    private int size = 0; // Number of entities hashed
+
+    /**
+     * Rebuilds the hash from the current positions of every entity in a store, dead or alive.
+     * Only allocates when the store has outgrown every earlier build.
+     *
+     * @param store The entities to hash
+     */
+    public void build(EntityStore store) {
+        size = store.size();
+        if (size > next.length) {
+            int capacity = Integer.highestOneBit(size - 1) << 1;
+            next = new int[capacity];
+            tileX = new int[capacity];
+            tileY = new int[capacity];
+        }
+        int buckets = Math.max(16, Integer.highestOneBit(Math.max(1, size)) << 1); // Load factor at most 1
+        if (buckets != heads.length) {
+            heads = new int[buckets];
+            mask = buckets - 1;
+        }
+        for (int b = 0; b < heads.length; b++) {
+            heads[b] = EMPTY;
+        }
+        for (int i = 0; i < size; i++) {
+            int x = TileGrid.floorTile(store.getX(i));
+            int y = TileGrid.floorTile(store.getY(i));
+            int b = bucket(x, y);
+            tileX[i] = x;
+            tileY[i] = y;
+            next[i] = heads[b];
+            heads[b] = i;
+        }
+    }
+
+    /**
+     * Get the bucket of a tile.
+     */
+    private int bucket(int x, int y) {
+        return ((x * 73856093) ^ (y * 19349663)) & mask;
+    }
+
+    /**
+     * Get the first entity hashed to a tile.
+     *
+     * @param x Column of the tile
+     * @param y Row of the tile
+     * @return Index of the entity, or -1 if no entity is on the tile
+     */
+    public int first(int x, int y) {
+        return skipOtherTiles(heads[bucket(x, y)], x, y);
+    }
+
+    /**
+     * Get the following entity on the same tile as another.
+     *
+     * @param i Index of an entity returned by first() or next()
+     * @return Index of the entity, or -1 if there are no more
+     */
+    public int next(int i) {
+        return skipOtherTiles(next[i], tileX[i], tileY[i]);
+    }
+
+    /**
+     * Walks a bucket chain from an entity to the first one on the given tile.
+     */
+    private int skipOtherTiles(int i, int x, int y) {
+        while (i != EMPTY && (tileX[i] != x || tileY[i] != y)) {
+            i = next[i];
+        }
+        return i;
+    }
+
+    /**
+     * Get the number of entities hashed by the last build.
+     *
+     * @return The number of entities
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,259 @@
+package gremlins.gameObjects;
+
+import gremlins.setup.Constants;
+import gremlins.setup.LevelDetails;
+
+/**
+ * Tile-occupancy grid of the walls in a level, stored in square chunks.
+ * Lets collision checks look up a tile in constant time instead of scanning every wall.
+ * A chunk's storage is only allocated when one of its cells is first touched, and a
+ * grid built from a level layout fills each chunk from the layout at that point, so
+ * a large level only costs memory for the parts that have been reached.
+ */
+public class TileGrid {
+
+    // Tile codes, matching the values returned by collision checks
+    public static final int EMPTY = 0;
+    public static final int STONE = 1;
+    public static final int BRICK = 2;
+
+    public static final int CHUNK_SHIFT = 5; // log2 of CHUNK_SIZE
+    public static final int CHUNK_SIZE = 1 << CHUNK_SHIFT; // Columns and rows of tiles per chunk
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final int columns;
+    private final int rows;
+    private final int chunkColumns; // Chunks across the grid
+    private final int chunkRows; // Chunks down the grid
+    private final LevelDetails source; // Layout chunks are filled from, or null for an empty grid
+
+    private final byte[][] tiles; // Tile code per cell of each chunk, row-major; null until touched
+    private final Wall[][] bricks; // Brick wall object per cell of each chunk, or null
+
+    /**
+     * Constructs an empty grid of the given size.
+     *
+     * @param columns Width of the grid in tiles
+     * @param rows    Height of the grid in tiles
+     */
+    public TileGrid(int columns, int rows) {
+        this(columns, rows, null);
+    }
+
+    /**
+     * Constructs a grid holding the walls of a level layout.
+     * Each chunk is read from the layout when one of its cells is first touched.
+     * Brick walls start without a Wall object; see setBrick().
+     *
+     * @param level The level layout
+     */
+    public TileGrid(LevelDetails level) {
+        this(level.getColumns(), level.getRows(), level);
+    }
+
+    /**
+     * Constructs a grid, optionally filled from a level layout.
+     */
+    private TileGrid(int columns, int rows, LevelDetails source) {
+        this.columns = columns;
+        this.rows = rows;
+        this.source = source;
+        this.chunkColumns = (columns + CHUNK_MASK) >> CHUNK_SHIFT;
+        this.chunkRows = (rows + CHUNK_MASK) >> CHUNK_SHIFT;
+        this.tiles = new byte[chunkColumns * chunkRows][];
+        this.bricks = new Wall[chunkColumns * chunkRows][];
+    }
+
+    /**
+     * Get the tile a fixed-point coordinate falls in, rounding down.
+     *
+     * @param units Coordinate in Constants.TILE_UNITS per tile
+     * @return The tile index
+     */
+    public static int floorTile(int units) {
+        return Math.floorDiv(units, Constants.TILE_UNITS);
+    }
+
+    /**
+     * Get the tile a fixed-point coordinate falls in, rounding up.
+     *
+     * @param units Coordinate in Constants.TILE_UNITS per tile
+     * @return The tile index
+     */
+    public static int ceilTile(int units) {
+        return -Math.floorDiv(-units, Constants.TILE_UNITS);
+    }
+
+    /**
+     * Get the index of the chunk holding a cell.
+     */
+    private int chunkOf(int x, int y) {
+        return (y >> CHUNK_SHIFT) * chunkColumns + (x >> CHUNK_SHIFT);
+    }
+
+    /**
+     * Get the index of a cell within its chunk.
+     */
+    private static int cellOf(int x, int y) {
+        return ((y & CHUNK_MASK) << CHUNK_SHIFT) | (x & CHUNK_MASK);
+    }
+
+    /**
+     * Get the tiles of a chunk, allocating and filling them from the layout on first use.
+     */
+    private byte[] chunkTiles(int chunk) {
+        byte[] cells = tiles[chunk];
+        if (cells == null) {
+            cells = new byte[CHUNK_SIZE * CHUNK_SIZE];
+            if (source != null) {
+                int left = (chunk % chunkColumns) << CHUNK_SHIFT;
+                int top = (chunk / chunkColumns) << CHUNK_SHIFT;
+                int right = Math.min(left + CHUNK_SIZE, columns);
+                int bottom = Math.min(top + CHUNK_SIZE, rows);
+                for (int y = top; y < bottom; y++) {
+                    for (int x = left; x < right; x++) {
+                        char tile = source.getTile(x, y);
+                        cells[cellOf(x, y)] = (byte) (tile == 'X' ? STONE : tile == 'B' ? BRICK : EMPTY);
+                    }
+                }
+            }
+            tiles[chunk] = cells;
+        }
+        return cells;
+    }
+
+    /**
+     * Get the brick wall objects of a chunk, allocating them on first use.
+     */
+    private Wall[] chunkBricks(int chunk) {
+        Wall[] cells = bricks[chunk];
+        if (cells == null) {
+            cells = new Wall[CHUNK_SIZE * CHUNK_SIZE];
+            bricks[chunk] = cells;
+        }
+        return cells;
+    }
+
+    /**
+     * Get the number of columns in the grid.
+     *
+     * @return The number of columns
+     */
+    public int getColumns() {
+        return this.columns;
+    }
+
+    /**
+     * Get the number of rows in the grid.
+     *
+     * @return The number of rows
+     */
+    public int getRows() {
+        return this.rows;
+    }
+
+    /**
+     * Get the number of chunks across the grid.
+     *
+     * @return The number of chunk columns
+     */
+    public int getChunkColumns() {
+        return this.chunkColumns;
+    }
+
+    /**
+     * Get the number of chunks down the grid.
+     *
+     * @return The number of chunk rows
+     */
+    public int getChunkRows() {
+        return this.chunkRows;
+    }
+
+    /**
+     * Get the tile code at the given cell.
+     *
+     * @param x Column of the cell
+     * @param y Row of the cell
+     * @return EMPTY, STONE or BRICK; EMPTY for cells outside the grid
+     */
+    public int get(int x, int y) {
+        if (!inBounds(x, y)) {
+            return EMPTY;
+        }
+        return chunkTiles(chunkOf(x, y))[cellOf(x, y)];
+    }
+
+    /**
+     * Get the brick wall occupying the given cell.
+     *
+     * @param x Column of the cell
+     * @param y Row of the cell
+     * @return The brick wall, or null if the cell holds no brick wall
+     */
+    public Wall getBrick(int x, int y) {
+        if (!inBounds(x, y)) {
+            return null;
+        }
+        Wall[] cells = bricks[chunkOf(x, y)];
+        return cells == null ? null : cells[cellOf(x, y)];
+    }
+
+    /**
+     * Mark the given cell as a stone wall.
+     *
+     * @param x Column of the cell
+     * @param y Row of the cell
+     */
+    public void setStone(int x, int y) {
+        int chunk = chunkOf(x, y);
+        chunkTiles(chunk)[cellOf(x, y)] = STONE;
+        if (bricks[chunk] != null) {
+            bricks[chunk][cellOf(x, y)] = null;
+        }
+    }
+
+    /**
+     * Mark the given cell as a brick wall.
+     *
+     * @param x    Column of the cell
+     * @param y    Row of the cell
+     * @param wall The brick wall occupying the cell, or null while the wall has no object,
+     *             e.g. because its chunk is not active
+     */
+    public void setBrick(int x, int y, Wall wall) {
+        int chunk = chunkOf(x, y);
+        chunkTiles(chunk)[cellOf(x, y)] = BRICK;
+        if (wall != null || bricks[chunk] != null) {
+            chunkBricks(chunk)[cellOf(x, y)] = wall;
+        }
+    }
+
+    /**
+     * Clear the given cell, e.g. once its brick wall has been destroyed.
+     *
+     * @param x Column of the cell
+     * @param y Row of the cell
+     */
+    public void clear(int x, int y) {
+        if (!inBounds(x, y)) {
+            return;
+        }
+        int chunk = chunkOf(x, y);
+        chunkTiles(chunk)[cellOf(x, y)] = EMPTY;
+        if (bricks[chunk] != null) {
+            bricks[chunk][cellOf(x, y)] = null;
+        }
+    }
+
+    /**
+     * Check whether a cell lies inside the grid.
+     *
+     * @param x Column of the cell
+     * @param y Row of the cell
+     * @return true if the cell is inside the grid, false otherwise
+     */
+    public boolean inBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < columns && y < rows;
+    }
+}
@@ -1,5 +1,6 @@
 package gremlins.gameObjects;
 
+import gremlins.SpriteBatch;
 import gremlins.setup.ImageLoader;
 import processing.core.PApplet;
 import processing.core.PImage;
@@ -20,7 +21,7 @@ public class Wall implements GameObject, Drawable {
     private ImageLoader imgDir;
 
     private boolean destroy = false; // Flag indicating if the wall is being destroyed
-    private long lastDestroyTime = 0; // Last time destruction animation was updated
+    private long lastDestroyTime = Long.MIN_VALUE / 2; // Last time destruction animation was updated, long ago so the first step is immediate
     public boolean isDead = false;
 
     /**
@@ -98,34 +99,46 @@ public class Wall implements GameObject, Drawable {
     public void draw(PApplet app) {
         double xCoord = this.x * width;
         double yCoord = this.y * height;
-        animateDestruction();
         app.image(this.wall, (float) xCoord, (float) yCoord);
     }
 
+    /**
+     * Queue the wall's sprite in a batch; walls do not move between ticks.
+     *
+     * @param batch The sprite batch collecting the frame's sprites
+     * @param alpha Fraction of a tick elapsed since the last update (unused)
+     */
+    @Override
+    public void draw(SpriteBatch batch, float alpha) {
+        batch.draw(this.wall, (float) (this.x * width), (float) (this.y * height));
+    }
+
     /**
      * Animate the destruction of the wall if it is marked for destruction.
      * This method updates the wall's image to simulate destruction over time.
+     * Called once per game tick; drawing only shows the current image.
+     *
+     * @param currentTime The current game time in milliseconds
      */
-    public void animateDestruction() {
+    public void animateDestruction(long currentTime) {
         if (!destroy) {
             return;
         }
         switch (this.time) {
             case 3:
-                this.setImg(this.imgDir.brickwall_destroyed0);
+                this.setImg(this.imgDir.get(ImageLoader.BRICKWALL_DESTROYED0));
                 break;
             case 2:
-                this.setImg(this.imgDir.brickwall_destroyed1);
+                this.setImg(this.imgDir.get(ImageLoader.BRICKWALL_DESTROYED1));
                 break;
             case 1:
-                this.setImg(this.imgDir.brickwall_destroyed2);
+                this.setImg(this.imgDir.get(ImageLoader.BRICKWALL_DESTROYED2));
                 break;
             case 0:
-                this.setImg(this.imgDir.brickwall_destroyed3);
+                this.setImg(this.imgDir.get(ImageLoader.BRICKWALL_DESTROYED3));
                 this.destroy = false;
                 break;
         }
-        long currentTime = System.currentTimeMillis();
         if (currentTime - this.lastDestroyTime >= 200) {
             this.setTime(this.getTime() - 1);
             this.lastDestroyTime = currentTime;
@@ -140,6 +153,15 @@ public class Wall implements GameObject, Drawable {
         this.destroy = true;
     }
 
+    /**
+     * Check if the wall has been hit and is being or has been destroyed.
+     *
+     * @return true if destruction has started, false if the wall is intact
+     */
+    public boolean isDestroying() {
+        return this.destroy || this.getTime() < 3;
+    }
+
     /**
      * Check if the wall has been completely destroyed.
      *
@@ -179,15 +201,6 @@ public class Wall implements GameObject, Drawable {
         return this.isDead;
     }
 
-    /**
-     * Calculate the next coordinates of the wall (not applicable for non-moving walls).
-     *
-     * @return Array containing the next x and y coordinates (always [0.0, 0.0] for walls)
-     */
-    public double[] nextCoordinates() {
-        return new double[]{0.0, 0.0}; // Not applicable for static walls
-    }
-
     /**
      * Get the remaining time for destruction animation.
      *
@@ -0,0 +1,20 @@
+package gremlins.gameObjects;
+
+/**
+ * Receives notifications when the walls of a level change.
+ * Lets renderers cache the walls and only update the tiles that change.
+ */
+public interface WallListener {
+
+    /**
+     * Called when every wall has been replaced, e.g. when a new level is built.
+     */
+    void wallsReset();
+
+    /**
+     * Called when a brick wall is hit and starts its destruction animation.
+     *
+     * @param wall The brick wall being destroyed
+     */
+    void wallDestroyed(Wall wall);
+}
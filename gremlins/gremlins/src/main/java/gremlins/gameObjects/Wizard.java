@@ -1,5 +1,7 @@
 package gremlins.gameObjects;
 
+import gremlins.SpriteBatch;
+import gremlins.setup.Constants;
 import gremlins.setup.ImageLoader;
 import gremlins.setup.Direction;
 import processing.core.PApplet;
@@ -17,13 +19,13 @@ public class Wizard implements GameObject, Drawable, Movement {
     // Time for any time related to the wizard
     private int time = 3;
 
-    // Current position of the wizard
-    private double x;
-    private double y;
+    // Current position of the wizard, in fixed-point units
+    private int x;
+    private int y;
 
-    // Current direction and movement speed of the wizard
+    // Current direction and movement speed of the wizard, one tile per step
     private Direction direction;
-    private double speed = 1;
+    private int speed = Constants.TILE_UNITS;
 
     // Image of the wizard and image loader for managing images
     private PImage wiz;
@@ -36,38 +38,65 @@ public class Wizard implements GameObject, Drawable, Movement {
      * Constructs a wizard with an image, position, and image loader.
      *
      * @param img    Image of the wizard
-     * @param x      Initial x-coordinate of the wizard
-     * @param y      Initial y-coordinate of the wizard
+     * @param x      Initial tile x-coordinate of the wizard
+     * @param y      Initial tile y-coordinate of the wizard
      * @param imgDir Image loader for managing images
      */
     public Wizard(PImage img, double x, double y, ImageLoader imgDir) {
         this.wiz = img;
-        this.x = x;
-        this.y = y;
+        this.x = (int) Math.round(x * Constants.TILE_UNITS);
+        this.y = (int) Math.round(y * Constants.TILE_UNITS);
         this.imgDir = imgDir;
         this.direction = Direction.LEFT; // Initial direction is left
     }
 
     /**
-     * Get the current x-coordinate of the wizard.
+     * Get the current tile x-coordinate of the wizard.
      *
      * @return The current x-coordinate
      */
     @Override
     public double getX() {
-        return this.x;
+        return (double) this.x / Constants.TILE_UNITS;
     }
 
     /**
-     * Get the current y-coordinate of the wizard.
+     * Get the current tile y-coordinate of the wizard.
      *
      * @return The current y-coordinate
      */
     @Override
     public double getY() {
+        return (double) this.y / Constants.TILE_UNITS;
+    }
+
+    /**
+     * Get the current fixed-point x-coordinate of the wizard.
+     *
+     * @return The current x-coordinate in units
+     */
+    public int getFixedX() {
+        return this.x;
+    }
+
+    /**
+     * Get the current fixed-point y-coordinate of the wizard.
+     *
+     * @return The current y-coordinate in units
+     */
+    public int getFixedY() {
         return this.y;
     }
 
+    /**
+     * Get the distance the wizard moves per step.
+     *
+     * @return The speed in units
+     */
+    public int getSpeed() {
+        return this.speed;
+    }
+
     /**
      * Get the width of the wizard.
      *
@@ -95,11 +124,22 @@ public class Wizard implements GameObject, Drawable, Movement {
      */
     @Override
     public void draw(PApplet app) {
-        double x_coord = this.x * width;
-        double y_coord = this.y * height;
+        double x_coord = (double) this.x / Constants.SUBPIXELS;
+        double y_coord = (double) this.y / Constants.SUBPIXELS;
         app.image(this.wiz, (float) x_coord, (float) y_coord);
     }
 
+    /**
+     * Queue the wizard's sprite in a batch; the wizard moves whole tiles on input, not per tick.
+     *
+     * @param batch The sprite batch collecting the frame's sprites
+     * @param alpha Fraction of a tick elapsed since the last update (unused)
+     */
+    @Override
+    public void draw(SpriteBatch batch, float alpha) {
+        batch.draw(this.wiz, (float) this.x / Constants.SUBPIXELS, (float) this.y / Constants.SUBPIXELS);
+    }
+
     /**
      * Draw the wizard at a specific position on the screen.
      *
@@ -189,97 +229,19 @@ public class Wizard implements GameObject, Drawable, Movement {
      */
     @Override
     public void stop() {
-        this.x = Math.round(this.x);
-        this.y = Math.round(this.y);
+        this.x = Math.floorDiv(this.x + Constants.TILE_UNITS / 2, Constants.TILE_UNITS) * Constants.TILE_UNITS;
+        this.y = Math.floorDiv(this.y + Constants.TILE_UNITS / 2, Constants.TILE_UNITS) * Constants.TILE_UNITS;
     }
 
     /**
-     * Calculate the next x-coordinate if the wizard moves to the right.
+     * Place the wizard on a position, e.g. back on its spawn tile after being caught.
      *
-     * @return The next x-coordinate if moving to the right
+     * @param x The fixed-point x-coordinate
+     * @param y The fixed-point y-coordinate
      */
-    @Override
-    public double next_right_x() {
-        return (this.x + this.speed);
-    }
-
-    /**
-     * Calculate the next y-coordinate if the wizard moves to the right.
-     *
-     * @return The next y-coordinate if moving to the right
-     */
-    @Override
-    public double next_right_y() {
-        return (this.y);
-    }
-
-    /**
-     * Calculate the next x-coordinate if the wizard moves to the left.
-     *
-     * @return The next x-coordinate if moving to the left
-     */
-    @Override
-    public double next_left_x() {
-        return (this.x - this.speed);
-    }
-
-    /**
-     * Calculate the next y-coordinate if the wizard moves to the left.
-     *
-     * @return The next y-coordinate if moving to the left
-     */
-    @Override
-    public double next_left_y() {
-        return (this.y);
-    }
-
-    /**
-     * Calculate the next y-coordinate if the wizard moves down.
-     *
-     * @return The next y-coordinate if moving down
-     */
-    @Override
-    public double next_down_y() {
-        return (this.y + this.speed);
-    }
-
-    /**
-     * Calculate the next x-coordinate if the wizard moves down.
-     *
-     * @return The next x-coordinate if moving down
-     */
-    @Override
-    public double next_down_x() {
-        return (this.x);
-    }
-
-    /**
-     * Calculate the next y-coordinate if the wizard moves up.
-     *
-     * @return The next y-coordinate if moving up
-     */
-    @Override
-    public double next_up_y() {
-        return (this.y - this.speed);
-    }
-
-    /**
-     * Calculate the next x-coordinate if the wizard moves up.
-     *
-     * @return The next x-coordinate if moving up
-     */
-    @Override
-    public double next_up_x() {
-        return (this.x);
-    }
-
-    /**
-     * Calculate the next coordinates of the wizard (not applicable for wizards).
-     *
-     * @return Array containing the next x and y coordinates (always [0.0, 0.0] for wizards)
-     */
-    public double[] nextCoordinates() {
-        return new double[]{0.0, 0.0}; // Not applicable for moving wizards
+    public void moveTo(int x, int y) {
+        this.x = x;
+        this.y = y;
     }
 
     /**
@@ -1,12 +1,25 @@
 package gremlins.setup;
 
+import processing.core.PApplet;
 import processing.data.JSONObject;
 import processing.data.JSONArray;
+import java.io.File;
 import java.util.ArrayList;
+import java.util.Random;
 
 public class Configuration {
     // Public attributes for storing game configuration data
     public int lives; // Number of lives the player has
+    public int tickRate; // Game logic updates per second
+    public int frameRate; // Rendered frames per second
+    public boolean dirtyRects; // Whether JAVA2D repaints only what changed each frame
+    public int maxProjectiles; // Fireballs the wizard can have in flight at once
+    public float fireRate; // Fireballs the wizard can shoot per second, 0 for no limit
+    public int lodMargin; // Tiles beyond the view edge where gremlins are simulated every tick
+    public int lodInterval; // Ticks between the updates of gremlins further from the view
+    public long seed; // Seed of the game's random number generator
+    public String recordInput; // File to record the session's input to, or null
+    public String profile; // CSV file to write phase timings to on exit, or null to only time on demand
     public ArrayList<LevelDetails> Level_Configuration = new ArrayList<>(); // List of level details
 
     /**
@@ -15,6 +28,11 @@ public class Configuration {
      */
     public Configuration(JSONObject conf) {
         setLives(conf); // Initialize lives from JSON
+        setRates(conf); // Initialize tick and frame rates from JSON
+        setRendering(conf); // Initialize the repaint mode from JSON
+        setWeapons(conf); // Initialize the projectile cap and fire rate from JSON
+        setDetail(conf); // Initialize the simulation level of detail from JSON
+        setSession(conf); // Initialize seed and input recording from JSON
         setLevel_Configuration(conf); // Initialize level configurations from JSON
     }
 
@@ -26,6 +44,75 @@ public class Configuration {
         this.lives = conf.getInt("lives"); // Retrieve 'lives' value from JSON
     }
 
+    /**
+     * Sets the logic tick rate and render frame rate from the JSON configuration.
+     * Both are optional and fall back to the defaults in Constants.
+     * @param conf The JSONObject containing configuration data
+     */
+    public void setRates(JSONObject conf) {
+        this.tickRate = Math.max(1, conf.getInt("tickRate", Constants.DEFAULT_TICK_RATE));
+        this.frameRate = Math.max(1, conf.getInt("frameRate", Constants.DEFAULT_FRAME_RATE));
+    }
+
+    /**
+     * Sets whether the JAVA2D renderer repaints only the parts of the window that changed.
+     * Optional; off unless "dirtyRects" is true.
+     * @param conf The JSONObject containing configuration data
+     */
+    public void setRendering(JSONObject conf) {
+        this.dirtyRects = conf.getBoolean("dirtyRects", false);
+    }
+
+    /**
+     * Sets the projectile cap and the fire rate from the JSON configuration.
+     * Both are optional and fall back to the defaults in Constants.
+     * @param conf The JSONObject containing configuration data
+     */
+    public void setWeapons(JSONObject conf) {
+        this.maxProjectiles = Math.max(1, conf.getInt("maxProjectiles", Constants.DEFAULT_MAX_PROJECTILES));
+        this.fireRate = Math.max(0, conf.getFloat("fireRate", Constants.DEFAULT_FIRE_RATE));
+    }
+
+    /**
+     * Sets how far from the view gremlins are simulated every tick and how often they are
+     * updated beyond that. Both are optional and fall back to the defaults in Constants.
+     * @param conf The JSONObject containing configuration data
+     */
+    public void setDetail(JSONObject conf) {
+        this.lodMargin = Math.max(0, conf.getInt("lodMargin", Constants.DEFAULT_LOD_MARGIN));
+        this.lodInterval = Math.max(1, conf.getInt("lodInterval", Constants.DEFAULT_LOD_INTERVAL));
+    }
+
+    /**
+     * Sets the random seed, the input recording file and the profile file from the JSON configuration.
+     * Without a "seed" every game gets a fresh random seed; without "recordInput" nothing is recorded;
+     * without "profile" timings are only collected while the overlay is shown.
+     * @param conf The JSONObject containing configuration data
+     */
+    public void setSession(JSONObject conf) {
+        this.seed = conf.hasKey("seed") ? conf.getLong("seed") : new Random().nextLong();
+        this.recordInput = conf.getString("recordInput", null);
+        this.profile = conf.getString("profile", null);
+    }
+
+    /**
+     * Reads the renderer to create the window with, before the rest of the configuration is loaded.
+     * "P2D" selects the OpenGL renderer with batched sprites; anything else selects JAVA2D.
+     * @param configPath Path to the configuration JSON file
+     * @return The Processing renderer name
+     */
+    public static String readRenderer(String configPath) {
+        try {
+            JSONObject conf = PApplet.loadJSONObject(new File(configPath));
+            if ("P2D".equals(conf.getString("renderer", "JAVA2D"))) {
+                return PApplet.P2D;
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        return PApplet.JAVA2D;
+    }
+
     /**
      * Loads layout details for the next level.
      * @param level The index of the level to load
@@ -1,20 +1,34 @@
 package gremlins.setup;
 
-import java.util.Random;
-
 public class Constants {
     // Game dimensions
     public static final int WIDTH = 720; // Width of the game window
     public static final int HEIGHT = 720; // Height of the game window
     public static final int SPRITESIZE = 20; // Size of each sprite or tile in pixels
     public static final int BOTTOMBAR = 60; // Height of the bottom bar area
+    public static final int VIEW_WIDTH = WIDTH; // Width of the part of the window showing the level
+    public static final int VIEW_HEIGHT = HEIGHT - BOTTOMBAR; // Height of the part of the window showing the level
+    public static final int CHUNK_MARGIN = 1; // Chunks around the viewport whose walls and gremlins stay live
+
+    // Fixed-point positions of moving entities, in integer sub-pixel units
+    public static final int SUBPIXELS = 100; // Units per pixel
+    public static final int TILE_UNITS = SPRITESIZE * SUBPIXELS; // Units per tile
 
     // Game settings
-    public static final int FPS = 360; // Frames per second for smooth animation
+    public static final int FPS = 360; // Reference tick rate that entity speeds are tuned for
+    public static final int DEFAULT_TICK_RATE = 60; // Game logic updates per second unless configured
+    public static final int DEFAULT_FRAME_RATE = 60; // Rendered frames per second unless configured
+    public static final int DEFAULT_MAX_PROJECTILES = 2; // Fireballs in flight at once unless configured
+    public static final float DEFAULT_FIRE_RATE = 0; // Fireballs per second unless configured, 0 for no limit
+    public static final int DEFAULT_LOD_MARGIN = 4; // Tiles beyond the view edge where gremlins still move every tick
+    public static final int DEFAULT_LOD_INTERVAL = 4; // Ticks between the moves of gremlins further out
+    public static final long HIT_GRACE_MILLIS = 2000; // Game time after losing a life during which gremlins cannot hurt the wizard
+    public static final long MAX_FRAME_NANOS = 250_000_000L; // Longest frame time simulated at once (0.25 seconds)
     public static final int initialTextTimer = FPS * 2; // Initial timer for displaying text (2 seconds)
 
-    // Random number generator
-    public static final Random randomGenerator = new Random(); // Random number generator instance
+    // Entity speeds, in pixels moved per tick at FPS
+    public static final float GREMLIN_SPEED = 0.5f;
+    public static final float PROJECTILE_SPEED = 0.7f;
 
     // Configuration file path
     public static final String configPath = "config.json"; // Path to the game configuration JSON file
@@ -24,5 +38,5 @@ public class Constants {
     // 'X' - Stone wall, 'B' - Brick wall, 'W' - Wizard, 'E' - Exit door, 'G' - Gremlin
 
     // Width offset for displaying number of lives
-    public static int widthOfNumOfLives = 70; // Initial width position for displaying number of lives
+    public static final int widthOfNumOfLives = 70; // Initial width position for displaying number of lives
 }
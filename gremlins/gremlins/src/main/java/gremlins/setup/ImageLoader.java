@@ -1,66 +1,146 @@
 package gremlins.setup;
 
+import gremlins.events.AssetLoadEvent;
+import gremlins.events.GameEvents;
+
 import processing.core.PApplet;
+import processing.core.PConstants;
 import processing.core.PImage;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.swing.ImageIcon;
+
 /**
  * Class responsible for loading and managing game images.
+ * Images are read as streams from the classpath, so they load the same from the class
+ * directories and from the fat jar. Constructing a loader starts decoding every image on
+ * a small shared pool; get() only waits for the image it asks for, so the rest of startup
+ * runs while the images decode.
  */
 public class ImageLoader {
-    private PApplet sketch;
+    // Sprite ids, the position of each image in getAll()
+    public static final int STONEWALL = 0;
+    public static final int BRICKWALL = 1;
+    public static final int BRICKWALL_DESTROYED0 = 2;
+    public static final int BRICKWALL_DESTROYED1 = 3;
+    public static final int BRICKWALL_DESTROYED2 = 4;
+    public static final int BRICKWALL_DESTROYED3 = 5;
+    public static final int GREMLIN = 6;
+    public static final int SLIME = 7;
+    public static final int WIZARD0 = 8;
+    public static final int WIZARD1 = 9;
+    public static final int WIZARD2 = 10;
+    public static final int WIZARD3 = 11;
+    public static final int FIREBALL = 12;
+
+    // Image files indexed by sprite id; the walls come first, as building a level needs them first
+    private static final String[] FILES = {
+        "stonewall.png", "brickwall.png",
+        "brickwall_destroyed0.png", "brickwall_destroyed1.png", "brickwall_destroyed2.png", "brickwall_destroyed3.png",
+        "gremlin.png", "slime.png",
+        "wizard0.png", "wizard1.png", "wizard2.png", "wizard3.png",
+        "fireball.png"
+    };
+    private static final String RESOURCE_DIR = "/gremlins/"; // Classpath directory of the image files
+
+    private static ExecutorService pool; // Decodes images in the background, created on first use
 
-    // Declare all image variables used in the game
-    public PImage stonewall;
-    public PImage brickwall;
-    public PImage brickwall_destroyed0;
-    public PImage brickwall_destroyed1;
-    public PImage brickwall_destroyed2;
-    public PImage brickwall_destroyed3;
-    public PImage gremlin;
-    public PImage slime;
-    public PImage wizard0;
-    public PImage wizard1;
-    public PImage wizard2;
-    public PImage wizard3;
-    public PImage fireball;
+    private List<CompletableFuture<PImage>> images; // Each image by sprite id, null for an empty loader
+
+    /**
+     * Constructor for an empty ImageLoader, used when running without a display.
+     * All images are left null.
+     */
+    public ImageLoader() {
+    }
 
     /**
-     * Constructor for ImageLoader.
-     * @param sketch The PApplet sketch instance
+     * Constructor for ImageLoader. Starts decoding every image in the background.
+     * @param sketch The PApplet sketch instance the images belong to
      */
     public ImageLoader(PApplet sketch) {
-        this.sketch = sketch;
-        loadImages(); // Load all images upon initialization
+        images = new ArrayList<>(FILES.length);
+        for (String filename : FILES) {
+            images.add(CompletableFuture.supplyAsync(() -> loadImage(sketch, filename), pool()));
+        }
+    }
+
+    /**
+     * Get the shared decoding pool: a few daemon threads, at most one per core.
+     */
+    private static synchronized ExecutorService pool() {
+        if (pool == null) {
+            int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+            pool = Executors.newFixedThreadPool(threads, task -> {
+                Thread thread = new Thread(task, "gremlins-image-loader");
+                thread.setDaemon(true); // Never keeps the game from exiting
+                return thread;
+            });
+        }
+        return pool;
+    }
+
+    /**
+     * Get an image, waiting for it to finish decoding if needed.
+     * @param id The sprite id of the image
+     * @return The image, or null if the loader is empty or the image could not be loaded
+     */
+    public PImage get(int id) {
+        return images == null ? null : images.get(id).join();
     }
 
     /**
-     * Loads all images from their respective files.
+     * Get every loaded image, in load order, so that a sprite id indexes its image.
+     * Waits for every image to finish decoding.
+     * @return Array of all images
      */
-    private void loadImages() {
-        // Load each image using loadImage method
-        stonewall = loadImage("stonewall.png");
-        brickwall = loadImage("brickwall.png");
-        brickwall_destroyed0 = loadImage("brickwall_destroyed0.png");
-        brickwall_destroyed1 = loadImage("brickwall_destroyed1.png");
-        brickwall_destroyed2 = loadImage("brickwall_destroyed2.png");
-        brickwall_destroyed3 = loadImage("brickwall_destroyed3.png");
-        gremlin = loadImage("gremlin.png");
-        slime = loadImage("slime.png");
-        wizard0 = loadImage("wizard0.png");
-        wizard1 = loadImage("wizard1.png");
-        wizard2 = loadImage("wizard2.png");
-        wizard3 = loadImage("wizard3.png");
-        fireball = loadImage("fireball.png");
+    public PImage[] getAll() {
+        PImage[] all = new PImage[FILES.length];
+        for (int id = 0; id < all.length; id++) {
+            all[id] = get(id);
+        }
+        return all;
     }
 
     /**
-     * Loads an image from the file path relative to the sketch.
+     * Decodes an image from the classpath into a PImage, the way PApplet.loadImage() decodes
+     * a PNG file. Reading a resource stream works inside a jar as well as from a directory,
+     * where the resource's file path only works for the latter.
+     * @param sketch   The PApplet sketch instance the image belongs to
      * @param filename The filename of the image to load
-     * @return The loaded PImage object
+     * @return The loaded PImage object, or null if it could not be loaded
      */
-    private PImage loadImage(String filename) {
-        // Construct the file path and load the image
-        String filePath = sketch.getClass().getResource(filename).getPath().replace("%20", " ");
-        return sketch.loadImage(filePath);
+    private static PImage loadImage(PApplet sketch, String filename) {
+        AssetLoadEvent event = GameEvents.assetLoad();
+        PImage image = null;
+        try (InputStream in = ImageLoader.class.getResourceAsStream(RESOURCE_DIR + filename)) {
+            byte[] bytes = in != null ? PApplet.loadBytes(in) : null;
+            if (bytes != null) {
+                image = new PImage(new ImageIcon(bytes).getImage());
+                for (int pixel : image.pixels) {
+                    if ((pixel & 0xff000000) != 0xff000000) {
+                        image.format = PConstants.ARGB; // Keep the alpha channel only if it is used
+                        break;
+                    }
+                }
+                image.parent = sketch;
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        if (image == null || image.width <= 0) {
+            System.err.println("Could not load image " + filename);
+            image = null;
+        }
+        if (event != null) {
+            event.finish(filename, image != null ? image.width : 0, image != null ? image.height : 0);
+        }
+        return image;
     }
 }
@@ -1,15 +1,44 @@
 package gremlins.setup;
 
 import java.io.File;
-import java.util.HashMap;
-import java.util.Scanner;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Class representing details of a game level, including its layout.
+ * The layout is held in the compiled level format, whichever format the file is in:
+ *
+ * <pre>
+ * int   MAGIC, VERSION, columns, rows, spawn count   (header)
+ * byte  tile symbol per cell, row-major               (' ', 'X' or 'B')
+ * 9 bytes per spawn: byte symbol, int x, int y        ('W', 'E' or 'G', in row-major order)
+ * </pre>
+ *
+ * Files ending in ".lvl" are memory-mapped as they are; text layouts are converted on load.
  */
 public class LevelDetails {
+
+    public static final int MAGIC = 0x47524D4C; // "GRML"
+    public static final int VERSION = 1;
+    public static final String COMPILED_EXTENSION = ".lvl";
+
+    private static final int HEADER_SIZE = 5 * 4; // Bytes before the tiles
+    private static final int SPAWN_SIZE = 1 + 4 + 4; // Bytes per spawn table entry
+
     private String filename; // File name of the level layout
-    private HashMap<Integer, char[]> layout; // HashMap to store the level layout
+    private ByteBuffer data; // The level in compiled format
+    private int columns; // Width of the level in tiles
+    private int rows; // Height of the level in tiles
+    private int spawnCount; // Number of entries in the spawn table
+    private int spawnOffset; // Byte offset of the spawn table
 
     /**
      * Constructor to initialize LevelDetails with a filename.
@@ -17,7 +46,6 @@ public class LevelDetails {
      */
     public LevelDetails(String filename) {
         this.filename = filename;
-        this.layout = new HashMap<>();
         this.makeLayout(filename); // Load layout from file upon initialization
     }
 
@@ -29,14 +57,6 @@ public class LevelDetails {
         return this.filename;
     }
 
-    /**
-     * Get the layout of the level as a HashMap.
-     * @return The layout of the level
-     */
-    public HashMap<Integer, char[]> getLayout() {
-        return this.layout;
-    }
-
     /**
      * Set the filename of the level layout.
      * @param filename The new filename of the level layout
@@ -46,25 +66,183 @@ public class LevelDetails {
     }
 
     /**
-     * Load the layout from the specified file and populate the layout HashMap.
+     * Get the width of the level.
+     * @return The number of columns
+     */
+    public int getColumns() {
+        return this.columns;
+    }
+
+    /**
+     * Get the height of the level.
+     * @return The number of rows
+     */
+    public int getRows() {
+        return this.rows;
+    }
+
+    /**
+     * Get the wall symbol of a tile.
+     * @param x Column of the tile
+     * @param y Row of the tile
+     * @return 'X' for stone, 'B' for brick, ' ' for an open tile
+     */
+    public char getTile(int x, int y) {
+        return (char) data.get(HEADER_SIZE + y * columns + x);
+    }
+
+    /**
+     * Get the number of entities spawned when the level starts.
+     * @return The number of spawn table entries
+     */
+    public int getSpawnCount() {
+        return this.spawnCount;
+    }
+
+    /**
+     * Get the symbol of a spawn table entry.
+     * @param k Index of the entry
+     * @return 'W' for the wizard, 'E' for the exit, 'G' for a gremlin
+     */
+    public char getSpawnSymbol(int k) {
+        return (char) data.get(spawnOffset + k * SPAWN_SIZE);
+    }
+
+    /**
+     * Get the column of a spawn table entry.
+     * @param k Index of the entry
+     * @return The column
+     */
+    public int getSpawnX(int k) {
+        return data.getInt(spawnOffset + k * SPAWN_SIZE + 1);
+    }
+
+    /**
+     * Get the row of a spawn table entry.
+     * @param k Index of the entry
+     * @return The row
+     */
+    public int getSpawnY(int k) {
+        return data.getInt(spawnOffset + k * SPAWN_SIZE + 5);
+    }
+
+    /**
+     * Get the level in compiled format.
+     * @return A read-only view of the compiled level
+     */
+    public ByteBuffer getData() {
+        return data.asReadOnlyBuffer();
+    }
+
+    /**
+     * Load the layout from the specified file, either compiled or text.
      * @param filename The filename of the level layout file
+     * @throws UncheckedIOException If the file cannot be read or is not a valid level
      */
     public void makeLayout(String filename) {
-        HashMap<Integer, char[]> map = new HashMap<>();
         try {
             File f = new File(filename);
-            Scanner s = new Scanner(f);
-            int index = 0;
-            while (s.hasNextLine()) {
-                map.put(index, s.nextLine().toCharArray());
-                index++;
+            if (filename.endsWith(COMPILED_EXTENSION)) {
+                this.data = map(f);
+            } else {
+                this.data = compile(Files.readAllLines(f.toPath(), StandardCharsets.ISO_8859_1));
+            }
+            readHeader();
+        } catch (IOException e) {
+            // Left to the caller to report, as levels may be loaded on a background thread
+            throw new UncheckedIOException("Could not load level " + filename, e);
+        }
+    }
+
+    /**
+     * Memory-maps a compiled level file.
+     * @param f The compiled level file
+     * @return The mapped contents
+     */
+    private static ByteBuffer map(File f) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(f, "r");
+             FileChannel channel = file.getChannel()) {
+            // The mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Validates the header of the compiled level and caches its fields.
+     */
+    private void readHeader() throws IOException {
+        if (data.capacity() < HEADER_SIZE || data.getInt(0) != MAGIC) {
+            throw new IOException(filename + " is not a compiled level");
+        }
+        if (data.getInt(4) != VERSION) {
+            throw new IOException(filename + " has unsupported level version " + data.getInt(4));
+        }
+        this.columns = data.getInt(8);
+        this.rows = data.getInt(12);
+        this.spawnCount = data.getInt(16);
+        this.spawnOffset = HEADER_SIZE + columns * rows;
+        if (columns < 0 || rows < 0 || spawnCount < 0
+                || data.capacity() < (long) spawnOffset + (long) spawnCount * SPAWN_SIZE) {
+            throw new IOException(filename + " is truncated");
+        }
+    }
+
+    /**
+     * Converts the lines of a text layout to the compiled format.
+     * Rows shorter than the widest one are padded with open tiles.
+     * @param lines The rows of the layout
+     * @return The compiled level
+     */
+    public static ByteBuffer compile(List<String> lines) {
+        int columns = 0;
+        for (String line : lines) {
+            columns = Math.max(columns, line.length());
+        }
+        int rows = lines.size();
+
+        byte[] tiles = new byte[columns * rows];
+        List<int[]> spawns = new ArrayList<>(); // Symbol, x, y
+        for (int y = 0; y < rows; y++) {
+            String line = lines.get(y);
+            for (int x = 0; x < columns; x++) {
+                char c = x < line.length() ? line.charAt(x) : ' ';
+                if (c == 'X' || c == 'B') {
+                    tiles[y * columns + x] = (byte) c;
+                } else {
+                    tiles[y * columns + x] = ' ';
+                    if (c == 'W' || c == 'E' || c == 'G') {
+                        spawns.add(new int[]{c, x, y});
+                    }
+                }
+            }
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(HEADER_SIZE + tiles.length + spawns.size() * SPAWN_SIZE);
+        out.putInt(MAGIC).putInt(VERSION).putInt(columns).putInt(rows).putInt(spawns.size());
+        out.put(tiles);
+        for (int[] spawn : spawns) {
+            out.put((byte) spawn[0]).putInt(spawn[1]).putInt(spawn[2]);
+        }
+        out.flip();
+        return out;
+    }
+
+    /**
+     * Converts text level layouts to compiled ".lvl" files next to them.
+     * @param args Paths of the text layouts, e.g. level1.txt level2.txt
+     */
+    public static void main(String[] args) throws IOException {
+        for (String path : args) {
+            File source = new File(path);
+            String name = source.getName();
+            int dot = name.lastIndexOf('.');
+            File target = new File(source.getParentFile(), (dot > 0 ? name.substring(0, dot) : name) + COMPILED_EXTENSION);
+
+            ByteBuffer level = compile(Files.readAllLines(source.toPath(), StandardCharsets.ISO_8859_1));
+            try (FileOutputStream out = new FileOutputStream(target)) {
+                out.getChannel().write(level);
             }
-            s.close();  // Close the scanner when done
-        } catch (Exception e) {
-            System.out.println("File not Found or Error reading file.");
-            e.printStackTrace();  // Print stack trace for debugging
-            System.exit(1);  // Exit the program on error
+            System.out.println(source + " -> " + target);
         }
-        this.layout = map;
     }
 }
@@ -0,0 +1,86 @@
+package gremlins.setup;
+
+import processing.core.PApplet;
+import processing.core.PConstants;
+import processing.core.PImage;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Packs the game's images into a single texture at load time.
+ * Sprites are placed row by row with a transparent gap between them so neighbouring
+ * sprites do not bleed into each other when the texture is sampled.
+ */
+public class SpriteAtlas {
+
+    private static final int PADDING = 2; // Transparent pixels between packed sprites
+    private static final int MAX_WIDTH = 256; // Width at which a new row of sprites starts
+
+    private PImage atlas; // The packed texture
+    private Map<PImage, int[]> regions = new IdentityHashMap<>(); // Source image -> {x, y, width, height}
+
+    /**
+     * Constructor for SpriteAtlas. Packs all images of the loader.
+     * @param sketch The PApplet used to create the texture
+     * @param images The loaded images to pack
+     */
+    public SpriteAtlas(PApplet sketch, ImageLoader images) {
+        pack(sketch, images.getAll());
+    }
+
+    /**
+     * Places every image in the atlas and copies its pixels across.
+     * @param sketch The PApplet used to create the texture
+     * @param images The images to pack
+     */
+    private void pack(PApplet sketch, PImage[] images) {
+        // Lay out the sprites in rows, then size the texture to fit
+        int x = PADDING, y = PADDING, rowHeight = 0, width = 0;
+        for (PImage img : images) {
+            if (img == null || regions.containsKey(img)) {
+                continue;
+            }
+            if (x + img.width + PADDING > MAX_WIDTH && x > PADDING) {
+                x = PADDING;
+                y += rowHeight + PADDING;
+                rowHeight = 0;
+            }
+            regions.put(img, new int[] {x, y, img.width, img.height});
+            x += img.width + PADDING;
+            rowHeight = Math.max(rowHeight, img.height);
+            width = Math.max(width, x);
+        }
+        int height = y + rowHeight + PADDING;
+
+        atlas = sketch.createImage(Math.max(width, 1), Math.max(height, 1), PConstants.ARGB);
+        atlas.loadPixels();
+        for (Map.Entry<PImage, int[]> entry : regions.entrySet()) {
+            PImage img = entry.getKey();
+            int[] region = entry.getValue();
+            img.loadPixels();
+            for (int row = 0; row < img.height; row++) {
+                System.arraycopy(img.pixels, row * img.width,
+                        atlas.pixels, (region[1] + row) * atlas.width + region[0], img.width);
+            }
+        }
+        atlas.updatePixels();
+    }
+
+    /**
+     * Get the packed texture.
+     * @return The atlas image
+     */
+    public PImage getImage() {
+        return atlas;
+    }
+
+    /**
+     * Get where an image was placed in the atlas.
+     * @param img A source image
+     * @return Array of {x, y, width, height} in atlas pixels, or null if the image is not packed
+     */
+    public int[] getRegion(PImage img) {
+        return regions.get(img);
+    }
+}
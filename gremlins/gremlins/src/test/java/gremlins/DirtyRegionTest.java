@@ -0,0 +1,30 @@
+package gremlins;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Shape;
+
+public class DirtyRegionTest {
+
+    @Test
+    public void marksCoveredCellsAndMergesRuns() {
+        DirtyRegion region = new DirtyRegion(100, 60, 20);
+        assertTrue(region.isFull());
+        region.clear();
+        assertTrue(region.isEmpty());
+
+        region.mark(10.5f, 5, 20, 20); // Straddles two columns and two rows
+        assertEquals(4, region.getMarkedCount());
+        region.mark(40, 0, 20, 20); // Extends the first row's run
+        region.mark(-30, 50, 500, 20); // Clamped to the bottom row
+        assertEquals(3 + 2 + 5, region.getMarkedCount());
+
+        Shape shape = region.toShape();
+        assertTrue(shape.contains(55, 10));
+        assertTrue(shape.contains(25, 30));
+        assertFalse(shape.contains(50, 30));
+        assertFalse(shape.contains(70, 10));
+        assertTrue(shape.contains(95, 55));
+    }
+}
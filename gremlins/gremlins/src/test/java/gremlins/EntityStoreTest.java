@@ -0,0 +1,96 @@
+package gremlins;
+
+import gremlins.gameObjects.EntityStore;
+import gremlins.setup.Direction;
+import gremlins.setup.ImageLoader;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityStoreTest {
+
+    @Test
+    public void removeMovesLastEntityIntoSlot() {
+        EntityStore store = new EntityStore(4, 1);
+        store.add(1, 1, Direction.UP, ImageLoader.GREMLIN);
+        store.add(2, 2, Direction.DOWN, ImageLoader.GREMLIN);
+        store.add(3, 3, Direction.LEFT, ImageLoader.FIREBALL);
+        store.setDead(2, true);
+
+        store.remove(0);
+
+        assertEquals(2, store.size());
+        assertEquals(3, store.getX(0));
+        assertEquals(Direction.LEFT, store.getDirection(0));
+        assertEquals(ImageLoader.FIREBALL, store.getSprite(0));
+        assertTrue(store.isDead(0));
+        assertEquals(2, store.getX(1));
+    }
+
+    @Test
+    public void removeDeadCompactsInOrder() {
+        EntityStore store = new EntityStore(8, 1);
+        for (int i = 0; i < 6; i++) {
+            store.add(i, i, Direction.RIGHT, ImageLoader.FIREBALL);
+        }
+        store.setDead(0, true);
+        store.setDead(2, true);
+        store.setDead(3, true);
+
+        assertEquals(3, store.removeDead());
+
+        assertEquals(3, store.size());
+        assertEquals(1, store.getX(0));
+        assertEquals(4, store.getX(1));
+        assertEquals(5, store.getY(2));
+        assertFalse(store.isDead(2));
+        assertEquals(0, store.removeDead());
+    }
+
+    @Test
+    public void addGrowsPastCapacity() {
+        EntityStore store = new EntityStore(1, 1);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, store.add(i, 0, Direction.RIGHT, ImageLoader.GREMLIN));
+        }
+        assertEquals(100, store.size());
+        assertEquals(99, store.getX(99));
+        assertFalse(store.isDead(99));
+    }
+
+    @Test
+    public void isAtMatchesWithinHalfAStep() {
+        EntityStore store = new EntityStore(1, 300);
+        int i = store.add(2000, 4000, Direction.RIGHT, ImageLoader.GREMLIN);
+        assertTrue(store.isAt(i, 2000, 4000));
+        assertTrue(store.isAt(i, 2149, 4000));
+        assertTrue(store.isAt(i, 1851, 4000));
+        assertFalse(store.isAt(i, 1850, 4000));
+        assertFalse(store.isAt(i, 2000, 4151));
+
+        store.move(i);
+        assertEquals(2300, store.getX(i));
+        assertEquals(4000, store.getY(i));
+    }
+
+    @Test
+    public void coarseMoveStopsAtTileBoundary() {
+        EntityStore store = new EntityStore(1, 300);
+        int i = store.add(2000, 2000, Direction.RIGHT, ImageLoader.GREMLIN);
+        store.stay(i);
+        assertEquals(1200, store.advanceToTile(i, 1200));
+        assertEquals(3200, store.getX(i));
+        assertEquals(800, store.advanceToTile(i, 1200)); // 1200 would overshoot the next tile
+        assertEquals(4000, store.getX(i));
+
+        // The rest of the move carries on past the tile in the new direction
+        store.setDirection(i, Direction.UP);
+        assertEquals(400, store.advanceToTile(i, 400));
+        assertEquals(1600, store.getY(i));
+        assertEquals(20, store.drawX(i, 0), 1e-6f); // Drawn from where the tick started
+
+        store.moveToTile(i);
+        assertEquals(1300, store.getY(i));
+        assertEquals(16, store.drawY(i, 0), 1e-6f);
+    }
+}
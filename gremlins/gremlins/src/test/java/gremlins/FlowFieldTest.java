@@ -0,0 +1,134 @@
+package gremlins;
+
+import gremlins.gameObjects.FlowField;
+import gremlins.gameObjects.TileGrid;
+import gremlins.gameObjects.Wall;
+import gremlins.setup.Constants;
+import gremlins.setup.Direction;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlowFieldTest {
+
+    /**
+     * Builds a wall grid from rows of 'X' (stone), 'B' (brick) and ' ' (open).
+     */
+    private static TileGrid grid(String... rows) {
+        TileGrid grid = new TileGrid(rows[0].length(), rows.length);
+        for (int y = 0; y < rows.length; y++) {
+            for (int x = 0; x < rows[y].length(); x++) {
+                if (rows[y].charAt(x) == 'X') {
+                    grid.setStone(x, y);
+                } else if (rows[y].charAt(x) == 'B') {
+                    grid.setBrick(x, y, new Wall(x, y));
+                }
+            }
+        }
+        return grid;
+    }
+
+    @Test
+    public void distancesRouteAroundWalls() {
+        TileGrid grid = grid(
+                "XXXXX",
+                "X   X",
+                "XXX X",
+                "X   X",
+                "XXXXX");
+        FlowField field = new FlowField(grid);
+        field.update(1, 1);
+
+        assertEquals(0, field.getDistance(1, 1));
+        assertEquals(2, field.getDistance(3, 1));
+        assertEquals(3, field.getDistance(3, 2));
+        assertEquals(6, field.getDistance(1, 3));
+        assertEquals(FlowField.UNREACHABLE, field.getDistance(0, 0));
+
+        assertEquals(Direction.RIGHT, field.towardsTarget(1, 3, Direction.LEFT));
+        assertEquals(Direction.UP, field.towardsTarget(3, 3, Direction.RIGHT));
+        assertNull(field.towardsTarget(1, 1, Direction.LEFT));
+    }
+
+    @Test
+    public void invalidateOpensRemovedWalls() {
+        TileGrid grid = grid(
+                "XXXXX",
+                "X B X",
+                "XXXXX");
+        FlowField field = new FlowField(grid);
+        field.update(1, 1);
+        assertEquals(FlowField.UNREACHABLE, field.getDistance(3, 1));
+
+        grid.clear(2, 1);
+        field.update(1, 1);
+        assertEquals(FlowField.UNREACHABLE, field.getDistance(3, 1), "unchanged target should not recompute");
+
+        field.invalidate();
+        field.update(1, 1);
+        assertEquals(2, field.getDistance(3, 1));
+        assertEquals(Direction.LEFT, field.towardsTarget(3, 1, null));
+    }
+
+    @Test
+    public void openedMatchesFullSearch() {
+        String[] rows = {
+                "XXXXXXXXXXX",
+                "X  B   B  X",
+                "X XXXBXXX X",
+                "X B  X  B X",
+                "XXXBXXXBXXX",
+                "X    B    X",
+                "XXXXXXXXXXX"};
+        TileGrid grid = grid(rows);
+        FlowField field = new FlowField(grid);
+        field.update(1, 1);
+
+        // Open the bricks one at a time, checking every tile against a fresh search
+        for (int y = 0; y < rows.length; y++) {
+            for (int x = 0; x < rows[y].length(); x++) {
+                if (rows[y].charAt(x) != 'B') {
+                    continue;
+                }
+                grid.clear(x, y);
+                field.opened(x, y);
+                FlowField fresh = new FlowField(grid);
+                fresh.update(1, 1);
+                for (int ty = 0; ty < rows.length; ty++) {
+                    for (int tx = 0; tx < rows[ty].length(); tx++) {
+                        assertEquals(fresh.getDistance(tx, ty), field.getDistance(tx, ty), "tile " + tx + "," + ty);
+                    }
+                }
+            }
+        }
+        assertEquals(12, field.getDistance(9, 5)); // Down the left side and along the bottom row
+    }
+
+    @Test
+    public void caughtWizardLosesOneLifePerContact() throws Exception {
+        GameObjectManager game = new GameObjectManager();
+        game.loadConfigurations(TestLevels.config("\"lives\": 3, \"seed\": 1",
+                "XXXXXXXXXX",
+                "XW      GX",
+                "XXXXXXXXXX"));
+        game.makeGameObjects();
+        int spawnX = game.getWizard().getFixedX(), spawnY = game.getWizard().getFixedY();
+
+        int ticks = 0;
+        while (game.getLives() == 3 && ticks < 1000) {
+            game.tick();
+            ticks++;
+        }
+        assertEquals(2, game.getLives(), "the gremlin should reach the idle wizard");
+        assertEquals(spawnX, game.getWizard().getFixedX());
+        assertEquals(spawnY, game.getWizard().getFixedY());
+
+        // The gremlin stays on the wizard, but the same contact takes no more lives
+        int graceTicks = (int) (Constants.HIT_GRACE_MILLIS * Constants.DEFAULT_TICK_RATE / 1000);
+        for (int t = 1; t < graceTicks; t++) {
+            game.tick();
+        }
+        assertEquals(2, game.getLives());
+        assertFalse(game.isGameOver());
+    }
+}
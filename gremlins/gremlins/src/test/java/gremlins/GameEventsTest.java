@@ -0,0 +1,71 @@
+package gremlins;
+
+import gremlins.events.GameEvents;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+import java.util.List;
+
+public class GameEventsTest {
+
+    @Test
+    public void recordsTicksCollisionsAndLevelLoads() throws Exception {
+        assumeTrue(GameEvents.AVAILABLE);
+
+        String config = TestLevels.config("\"lives\": 3, \"seed\": 1",
+                "XXXXXXX",
+                "XW B GX",
+                "XXXXXXX");
+        File dump = File.createTempFile("gremlins-events", ".jfr");
+        dump.deleteOnExit();
+
+        GameObjectManager game = new GameObjectManager();
+        game.loadConfigurations(config);
+        try (Recording recording = new Recording()) {
+            recording.enable("gremlins.Tick");
+            recording.enable("gremlins.Collision");
+            recording.enable("gremlins.LevelLoad");
+            recording.start();
+            game.makeGameObjects();
+            for (int t = 0; t < 10; t++) {
+                game.tick();
+            }
+            recording.stop();
+            recording.dump(dump.toPath());
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump.toPath());
+        int ticks = 0, collisions = 0, loads = 0;
+        for (RecordedEvent event : events) {
+            switch (event.getEventType().getName()) {
+                case "gremlins.Tick":
+                    ticks++;
+                    assertEquals(0, event.getInt("level"));
+                    assertEquals(1, event.getInt("gremlins"));
+                    assertEquals(1, event.getInt("brickWalls"));
+                    break;
+                case "gremlins.Collision":
+                    collisions++;
+                    break;
+                case "gremlins.LevelLoad":
+                    loads++;
+                    assertEquals(0, event.getInt("level"));
+                    assertFalse(event.getBoolean("prefetched"));
+                    assertEquals(7, event.getInt("columns"));
+                    assertEquals(3, event.getInt("rows"));
+                    assertEquals(16, event.getInt("stoneWalls"));
+                    break;
+            }
+        }
+        assertEquals(10, ticks);
+        assertEquals(10, collisions);
+        assertEquals(1, loads);
+    }
+}
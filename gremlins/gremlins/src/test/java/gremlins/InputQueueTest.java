@@ -0,0 +1,49 @@
+package gremlins;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InputQueueTest {
+
+    @Test
+    public void dropsCommandsWhenFull() {
+        InputQueue queue = new InputQueue(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(InputQueue.LEFT));
+        }
+        assertFalse(queue.offer(InputQueue.SHOOT));
+
+        assertEquals(InputQueue.LEFT, queue.poll());
+        assertTrue(queue.offer(InputQueue.SHOOT));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(InputQueue.LEFT, queue.poll());
+        }
+        assertEquals(InputQueue.SHOOT, queue.poll());
+        assertEquals(InputQueue.EMPTY, queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void deliversEveryCommandInOrderAcrossThreads() throws Exception {
+        final int count = 1_000_000;
+        final InputQueue queue = new InputQueue(64);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!queue.offer(i % 6)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+
+        for (int i = 0; i < count; i++) {
+            int command;
+            while ((command = queue.poll()) == InputQueue.EMPTY) {
+                Thread.yield();
+            }
+            assertEquals(i % 6, command);
+        }
+        producer.join();
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,36 @@
+package gremlins;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void percentilesAreWithinBucketPrecision() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (long v = 1; v <= 100_000; v++) {
+            h.record(v * 1000); // 1 us to 100 ms
+        }
+        assertEquals(100_000, h.getCount());
+        assertEquals(100_000_000L, h.getMax());
+        assertEquals(50_000_000, h.percentile(0.5), 50_000_000 / 16.0);
+        assertEquals(99_000_000, h.percentile(0.99), 99_000_000 / 16.0);
+        assertEquals(100_000_000L, h.percentile(1.0));
+        assertEquals(50_000_500, h.getMean(), 1);
+    }
+
+    @Test
+    public void smallValuesAreExact() {
+        LatencyHistogram h = new LatencyHistogram();
+        h.record(3);
+        h.record(7);
+        h.record(-5);
+        assertEquals(0, h.percentile(0.3));
+        assertEquals(3, h.percentile(0.5));
+        assertEquals(7, h.percentile(0.99));
+
+        h.reset();
+        assertEquals(0, h.getCount());
+        assertEquals(0, h.percentile(0.5));
+    }
+}
@@ -0,0 +1,66 @@
+package gremlins;
+
+import gremlins.setup.LevelDetails;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.UncheckedIOException;
+
+public class LevelDetailsTest {
+
+    @Test
+    public void compiledLevelMatchesTextLayout() throws Exception {
+        File text = TestLevels.layout(
+                "XXXXX",
+                "XWBGX",
+                "X  E",
+                "XXXXX");
+        LevelDetails.main(new String[]{text.getPath()});
+        File compiled = new File(text.getPath().replace(".txt", LevelDetails.COMPILED_EXTENSION));
+        compiled.deleteOnExit();
+
+        LevelDetails fromText = new LevelDetails(text.getPath());
+        LevelDetails fromBinary = new LevelDetails(compiled.getPath());
+
+        for (LevelDetails level : new LevelDetails[]{fromText, fromBinary}) {
+            assertEquals(5, level.getColumns());
+            assertEquals(4, level.getRows());
+            assertEquals('X', level.getTile(0, 0));
+            assertEquals('B', level.getTile(2, 1));
+            assertEquals(' ', level.getTile(1, 1), "spawn tiles are open");
+            assertEquals(' ', level.getTile(4, 2), "short rows are padded");
+
+            assertEquals(3, level.getSpawnCount());
+            assertEquals('W', level.getSpawnSymbol(0));
+            assertEquals('G', level.getSpawnSymbol(1));
+            assertEquals(3, level.getSpawnX(1));
+            assertEquals(1, level.getSpawnY(1));
+            assertEquals('E', level.getSpawnSymbol(2));
+            assertEquals(3, level.getSpawnX(2));
+            assertEquals(2, level.getSpawnY(2));
+        }
+        assertEquals(fromText.getData(), fromBinary.getData());
+    }
+
+    @Test
+    public void shippedCompiledLevelsMatchTheirTextLayouts() {
+        for (String name : new String[]{"level1", "level2", "level3"}) {
+            LevelDetails text = new LevelDetails(name + ".txt");
+            LevelDetails compiled = new LevelDetails(name + LevelDetails.COMPILED_EXTENSION);
+            assertEquals(text.getData(), compiled.getData(), name + ".lvl is stale; run gradle compileLevels");
+        }
+    }
+
+    @Test
+    public void unreadableLevelThrowsInsteadOfExiting() throws Exception {
+        File garbage = TestLevels.layout("not a level");
+        File compiled = new File(garbage.getPath().replace(".txt", LevelDetails.COMPILED_EXTENSION));
+        compiled.deleteOnExit();
+        assertTrue(garbage.renameTo(compiled));
+
+        assertThrows(UncheckedIOException.class, () -> new LevelDetails(compiled.getPath()));
+        assertThrows(UncheckedIOException.class, () -> new LevelDetails("missing-level.txt"));
+    }
+}
@@ -0,0 +1,105 @@
+package gremlins;
+
+import gremlins.gameObjects.EntityStore;
+import gremlins.setup.Constants;
+import gremlins.setup.Direction;
+import gremlins.setup.ImageLoader;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+public class NextCoordinatesTest {
+
+    private static final int TICKS = 100_000;
+
+    // Looked up once so reading the counter does not itself allocate
+    private static final java.lang.management.ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    /**
+     * Bytes allocated so far by the given thread, or -1 if the JVM cannot report it.
+     */
+    private static long allocatedBytes(long threadId) {
+        if (!(THREADS instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(threadId);
+    }
+
+    @Test
+    public void nextXAndNextYStepAlongDirection() {
+        int step = EntityStore.toUnits(Constants.PROJECTILE_SPEED);
+        EntityStore store = new EntityStore(4, step);
+        int x = 4 * Constants.TILE_UNITS, y = 7 * Constants.TILE_UNITS;
+        int up = store.add(x, y, Direction.UP, ImageLoader.FIREBALL);
+        int down = store.add(x, y, Direction.DOWN, ImageLoader.FIREBALL);
+        int left = store.add(x, y, Direction.LEFT, ImageLoader.FIREBALL);
+        int right = store.add(x, y, Direction.RIGHT, ImageLoader.FIREBALL);
+
+        assertEquals(x, store.nextX(up));
+        assertEquals(y - step, store.nextY(up));
+        assertEquals(y + step, store.nextY(down));
+        assertEquals(x - step, store.nextX(left));
+        assertEquals(x + step, store.nextX(right));
+        assertEquals(y, store.nextY(right));
+
+        store.move(right);
+        assertEquals(x + step, store.getX(right)); // The step taken is the one queried
+    }
+
+    @Test
+    public void ticksDoNotAllocate() throws Exception {
+        long thread = Thread.currentThread().getId();
+        assumeTrue(allocatedBytes(thread) >= 0, "JVM does not report per-thread allocation");
+
+        // Gremlins roam the open half while the wizard, walled off, keeps firing into stone
+        GameObjectManager game = new GameObjectManager();
+        game.loadConfigurations(TestLevels.config("\"lives\": 3, \"seed\": 1",
+                "XXXXXXXXXXXXXXXXXXXX",
+                "X  G     X        GX",
+                "X XXXX X X XXXX XX X",
+                "X    X G X    X    X",
+                "XXXXXXXXXX XX XX X X",
+                "XW       X G       X",
+                "XXXXXXXXXXXXXXXXXXXX"));
+        game.makeGameObjects();
+
+        for (int t = 0; t < 1000; t++) { // Warm up past one-off class initialisation
+            game.applyInput(InputQueue.SHOOT);
+            game.tick();
+        }
+        long before = allocatedBytes(thread);
+        for (int t = 0; t < TICKS; t++) {
+            game.applyInput(InputQueue.SHOOT);
+            game.tick();
+        }
+        long allocated = allocatedBytes(thread) - before;
+
+        // One-off JIT bookkeeping may show up as a few bytes; 8 bytes a tick would already be 800 KB
+        assertFalse(game.isGameOver());
+        assertTrue(allocated < 1024, "ticks allocated " + allocated + " bytes over " + TICKS + " ticks");
+    }
+
+    @Test
+    public void probeDetectsBoxedCoordinates() {
+        long thread = Thread.currentThread().getId();
+        assumeTrue(allocatedBytes(thread) >= 0, "JVM does not report per-thread allocation");
+
+        EntityStore store = new EntityStore(1, EntityStore.toUnits(Constants.GREMLIN_SPEED));
+        int i = store.add(4 * Constants.TILE_UNITS, 7 * Constants.TILE_UNITS, Direction.RIGHT, ImageLoader.GREMLIN);
+        List<Integer> path = new ArrayList<>();
+        long before = allocatedBytes(thread);
+        for (int t = 0; t < 1000; t++) {
+            path.add(store.nextX(i)); // Boxed, as a per-tick coordinate list would be
+            store.move(i);
+        }
+        long allocated = allocatedBytes(thread) - before;
+
+        assertEquals(1000, path.size());
+        assertTrue(allocated > 0, "expected boxing the coordinates to allocate");
+    }
+}
@@ -0,0 +1,60 @@
+package gremlins;
+
+import gremlins.gameObjects.ProjectilePool;
+import gremlins.setup.Direction;
+import gremlins.setup.ImageLoader;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProjectilePoolTest {
+
+    @Test
+    public void acquireStopsAtCapacityAndResetsSlots() {
+        ProjectilePool pool = new ProjectilePool(2, 100);
+        assertEquals(0, pool.acquire(10, 10, Direction.UP, ImageLoader.FIREBALL));
+        assertEquals(1, pool.acquire(20, 20, Direction.DOWN, ImageLoader.SLIME));
+        assertEquals(-1, pool.acquire(30, 30, Direction.LEFT, ImageLoader.FIREBALL));
+        assertEquals(2, pool.size());
+
+        pool.move(0);
+        pool.setDead(0, true);
+        pool.removeDead();
+
+        int i = pool.acquire(40, 40, Direction.RIGHT, ImageLoader.FIREBALL);
+        assertEquals(1, i);
+        assertFalse(pool.isDead(i));
+        assertEquals(40, pool.getX(i));
+        assertEquals(0.4f, pool.drawX(i, 0), 1e-6f); // Previous position reset too
+        assertEquals(Direction.RIGHT, pool.getDirection(i));
+        assertEquals(ImageLoader.FIREBALL, pool.getSprite(i));
+    }
+
+    @Test
+    public void shotsFollowConfiguredCapAndFireRate() throws Exception {
+        String config = TestLevels.config("\"lives\": 3, \"seed\": 1, \"maxProjectiles\": 3, \"fireRate\": 10",
+                "XXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXX",
+                "X                                     WX",
+                "XXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXX");
+
+        GameObjectManager game = new GameObjectManager();
+        game.loadConfigurations(config);
+        game.makeGameObjects();
+        assertEquals(3, game.getProjectiles().getCapacity());
+
+        // At 60 ticks per second a shot every 100 ms is one every 6 ticks
+        for (int t = 0; t < 6; t++) {
+            game.applyInput(InputQueue.SHOOT);
+            game.tick();
+        }
+        assertEquals(1, game.getProjectiles().size());
+
+        int fired = 0;
+        for (int t = 0; t < 30; t++) {
+            game.applyInput(InputQueue.SHOOT);
+            game.tick();
+            fired = Math.max(fired, game.getProjectiles().size());
+        }
+        assertEquals(3, fired);
+    }
+}
@@ -0,0 +1,75 @@
+package gremlins;
+
+import gremlins.gameObjects.EntityStore;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.util.Random;
+
+public class ReplayTest {
+
+    /**
+     * Writes a small level and a configuration using it, returning the configuration path.
+     */
+    private static String config(long seed) throws Exception {
+        return TestLevels.config("\"lives\": 50, \"seed\": " + seed,
+                "XXXXXXXXXXXX",
+                "X    B    GX",
+                "X XX X XXX X",
+                "XW   B    GX",
+                "X XX X XXX X",
+                "X    B   G X",
+                "XXXXXXXXXXXX");
+    }
+
+    /**
+     * Describes everything that changes during play, so two games can be compared.
+     */
+    private static String state(GameObjectManager game) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(game.getTicks()).append(' ').append(game.getLives()).append(' ')
+                .append(game.getWizard().getX()).append(',').append(game.getWizard().getY())
+                .append(" bricks ").append(game.getBrickWalls().size());
+        EntityStore gremlins = game.getGremlins();
+        for (int i = 0; i < gremlins.size(); i++) {
+            sb.append(" g").append(gremlins.getX(i)).append(',').append(gremlins.getY(i))
+                    .append(gremlins.isDead(i) ? "x" : "");
+        }
+        EntityStore projectiles = game.getProjectiles();
+        for (int i = 0; i < projectiles.size(); i++) {
+            sb.append(" p").append(projectiles.getX(i)).append(',').append(projectiles.getY(i));
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void replayReproducesRecordedSession() throws Exception {
+        String configPath = config(1234);
+        File recording = File.createTempFile("gremlins-replay", ".rec");
+        recording.deleteOnExit();
+
+        GameObjectManager live = new GameObjectManager();
+        live.loadConfigurations(configPath);
+        live.makeGameObjects();
+        live.startRecording(recording);
+
+        Random keys = new Random(99);
+        for (int t = 0; t < 5000 && !live.isGameOver(); t++) {
+            if (keys.nextInt(10) == 0) {
+                live.getInput().offer(keys.nextInt(InputQueue.SHOOT + 1));
+            }
+            live.tick();
+        }
+        live.stopRecording();
+
+        ReplayPlayer replay = new ReplayPlayer(recording);
+        assertEquals(1234, replay.getSeed());
+        assertEquals(live.getTicks(), replay.getLength());
+
+        GameObjectManager replayed = replay.newGame();
+        replay.play(replayed);
+        assertEquals(state(live), state(replayed));
+    }
+}
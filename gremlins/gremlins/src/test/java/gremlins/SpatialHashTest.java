@@ -0,0 +1,67 @@
+package gremlins;
+
+import gremlins.gameObjects.EntityStore;
+import gremlins.gameObjects.SpatialHash;
+import gremlins.setup.Constants;
+import gremlins.setup.Direction;
+import gremlins.setup.ImageLoader;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+public class SpatialHashTest {
+
+    private static final int T = Constants.TILE_UNITS;
+
+    /**
+     * Collects the entities the hash returns for a tile.
+     */
+    private static Set<Integer> on(SpatialHash hash, int x, int y) {
+        Set<Integer> found = new HashSet<>();
+        for (int i = hash.first(x, y); i >= 0; i = hash.next(i)) {
+            assertTrue(found.add(i));
+        }
+        return found;
+    }
+
+    @Test
+    public void findsEveryEntityOnItsFloorTile() {
+        EntityStore store = new EntityStore(4, 300);
+        store.add(3 * T, 5 * T, Direction.LEFT, ImageLoader.GREMLIN);
+        store.add(3 * T + T / 2, 5 * T + 1, Direction.UP, ImageLoader.GREMLIN);
+        store.add(4 * T, 5 * T, Direction.RIGHT, ImageLoader.GREMLIN);
+        store.add(-1, 0, Direction.DOWN, ImageLoader.GREMLIN);
+
+        SpatialHash hash = new SpatialHash();
+        hash.build(store);
+
+        assertEquals(new HashSet<>(Arrays.asList(0, 1)), on(hash, 3, 5));
+        assertEquals(new HashSet<>(Arrays.asList(2)), on(hash, 4, 5));
+        assertEquals(new HashSet<>(Arrays.asList(3)), on(hash, -1, 0));
+        assertTrue(on(hash, 0, 0).isEmpty());
+        assertTrue(on(hash, 5, 3).isEmpty());
+    }
+
+    @Test
+    public void rebuildFollowsMovesAndGrowth() {
+        EntityStore store = new EntityStore(1, 300);
+        SpatialHash hash = new SpatialHash();
+        for (int i = 0; i < 100; i++) {
+            store.add(i * T, 0, Direction.RIGHT, ImageLoader.GREMLIN);
+        }
+        hash.build(store);
+        assertEquals(100, hash.size());
+        assertEquals(1, on(hash, 99, 0).size());
+
+        store.moveAll(); // 300 units right, still on the same tiles
+        store.remove(0);
+        hash.build(store);
+        assertEquals(99, hash.size());
+        assertTrue(on(hash, 99, 0).contains(0)); // The last entity moved into slot 0
+        assertTrue(on(hash, 0, 0).isEmpty());
+    }
+}
@@ -0,0 +1,49 @@
+package gremlins;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Writes small level layouts and configuration files for the tests.
+ * Layout rows are written with the CRLF line endings of the shipped levels.
+ */
+public class TestLevels {
+
+    /**
+     * Writes a level layout.
+     * @param rows The rows of the layout, top to bottom
+     * @return The written layout file
+     * @throws IOException If the file cannot be written
+     */
+    public static File layout(String... rows) throws IOException {
+        File file = File.createTempFile("gremlins-level", ".txt");
+        file.deleteOnExit();
+
+        try (PrintWriter out = new PrintWriter(file)) {
+            for (String row : rows) {
+                out.print(row + "\r\n");
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Writes a one-level layout and a configuration file that plays it.
+     * @param settings The other configuration keys, e.g. "\"lives\": 3, \"seed\": 1"
+     * @param rows     The rows of the layout, top to bottom
+     * @return Path of the written configuration file
+     * @throws IOException If a file cannot be written
+     */
+    public static String config(String settings, String... rows) throws IOException {
+        String layout = layout(rows).getAbsolutePath().replace("\\", "\\\\");
+        File file = File.createTempFile("gremlins-config", ".json");
+        file.deleteOnExit();
+
+        try (PrintWriter out = new PrintWriter(file)) {
+            out.println("{ \"levels\": [ { \"layout\": \"" + layout + "\" } ],");
+            out.println("  " + settings + " }");
+        }
+        return file.getPath();
+    }
+}